@@ -0,0 +1,58 @@
+package com.forlazydevs.transformer;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.forlazydevs.transformer.exceptions.TransformerException;
+import com.forlazydevs.transformer.exceptions.UncheckedTransformerException;
+import com.forlazydevs.transformer.rulebook.Rulebook;
+
+/**
+ * Transforms elements one at a time as they are consumed, resolving the transformation once per distinct class of the elements
+ * and again for every class once the version of the rules changes. Safe to use from parallel streams.
+ */
+final class ElementTransform<T> implements Function<Object, T> {
+
+    private final TransformerEngine engine;
+    private final Class<T> clazz;
+    private final Rulebook rules;
+    private volatile Resolved resolved = new Resolved(-1L);
+
+    ElementTransform(TransformerEngine engine, Class<T> clazz, Rulebook rules) {
+        this.engine = engine;
+        this.clazz = clazz;
+        this.rules = Objects.isNull(rules) ? engine.getDefaultRules() : rules;
+    }
+
+    @Override
+    public T apply(Object element) {
+        if (Objects.isNull(element)) {
+            return null;
+        }
+        try {
+            long version = Objects.isNull(this.rules) ? 0L : this.rules.getVersion();
+            Resolved current = this.resolved;
+            if (current.version != version) {
+                current = new Resolved(version);
+                this.resolved = current;
+            }
+            return this.engine.resolveForBatch(current.mappers, element.getClass(), this.clazz, this.rules).transform(element);
+        } catch (TransformerException ex) {
+            throw new UncheckedTransformerException(ex, this.engine.isCapturingStackTraces());
+        }
+    }
+
+    /**
+     * The mappers resolved under one version of the rules.
+     */
+    private static final class Resolved {
+        private final long version;
+        private final Map<Class<?>, Object> mappers = new ConcurrentHashMap<Class<?>, Object>();
+
+        private Resolved(long version) {
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.forlazydevs.transformer;
+
+/**
+ * The ways a {@link TransformerEngine} keeps its cache of compiled transform plans within its size.
+ */
+public enum EvictionPolicy {
+
+    /**
+     * Evicts the plan used least recently. Every lookup updates the order of the plans under a lock,
+     * which costs throughput when many threads transform at once.
+     */
+    LRU,
+
+    /**
+     * Evicts an arbitrary plan once the cache is full. Lookups take no lock, but a plan used often can be evicted and compiled again.
+     */
+    SIZE_BOUNDED
+}
@@ -0,0 +1,106 @@
+package com.forlazydevs.transformer;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The fields written by an incremental transformation, as one bit per field copied by the transformation,
+ * indexed in the declaration order of the fields of the source class.
+ */
+public final class FieldChanges {
+
+    private final List<String> fieldNames;
+    private final long[] bits;
+
+    FieldChanges(List<String> fieldNames, long[] bits) {
+        this.fieldNames = fieldNames;
+        this.bits = bits;
+    }
+
+    /**
+     * Determines if any field was written.
+     *
+     * @return boolean - A flag representing if a field changed.
+     */
+    public boolean hasChanges() {
+        for (long word : this.bits) {
+            if (word != 0L) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retrieves the number of fields written.
+     *
+     * @return int - The number of changed fields.
+     */
+    public int getChangedCount() {
+        int count = 0;
+        for (long word : this.bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Retrieves the number of fields copied by the transformation, changed or not.
+     *
+     * @return int - The number of bits of the changes.
+     */
+    public int getFieldCount() {
+        return this.fieldNames.size();
+    }
+
+    /**
+     * Determines if a field was written.
+     *
+     * @param index - The index of the field among the fields copied by the transformation.
+     * @return boolean - A flag representing if the field changed.
+     */
+    public boolean isChanged(int index) {
+        return index >= 0 && index < this.fieldNames.size() && (this.bits[index >>> 6] & (1L << index)) != 0L;
+    }
+
+    /**
+     * Determines if a field was written.
+     *
+     * @param fieldName - The name of the field in the object transformed.
+     * @return boolean - A flag representing if the field changed, false if the transformation does not copy the field.
+     */
+    public boolean isChanged(String fieldName) {
+        return isChanged(this.fieldNames.indexOf(fieldName));
+    }
+
+    /**
+     * Retrieves the names of the fields written.
+     *
+     * @return List&lt;String&gt; - The names of the changed fields in the object transformed, in declaration order.
+     */
+    public List<String> getChangedFieldNames() {
+        List<String> changed = new ArrayList<String>(getChangedCount());
+        for (int i = 0; i < this.fieldNames.size(); i++) {
+            if (isChanged(i)) {
+                changed.add(this.fieldNames.get(i));
+            }
+        }
+        return Collections.unmodifiableList(changed);
+    }
+
+    /**
+     * Retrieves the changes as a bit set.
+     *
+     * @return BitSet - A new bit set with the bit of every changed field set.
+     */
+    public BitSet toBitSet() {
+        return BitSet.valueOf(this.bits);
+    }
+
+    @Override
+    public String toString() {
+        return getChangedFieldNames().toString();
+    }
+}
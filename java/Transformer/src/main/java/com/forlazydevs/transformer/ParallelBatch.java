@@ -0,0 +1,130 @@
+package com.forlazydevs.transformer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.forlazydevs.transformer.batch.BatchFailure;
+import com.forlazydevs.transformer.batch.BatchResult;
+import com.forlazydevs.transformer.batch.FailurePolicy;
+import com.forlazydevs.transformer.exceptions.TransformerException;
+import com.forlazydevs.transformer.rulebook.Rulebook;
+import com.forlazydevs.transformer.spi.TransformMapper;
+
+/**
+ * Transforms a batch on a fork-join pool. The elements are split with their spliterator until a part holds no more elements than the threshold,
+ * each part writes its results at its own offset of a shared array so the results keep the order of the batch.
+ */
+final class ParallelBatch<T> {
+
+    private static final Object FAILED = new Object();
+
+    private final TransformerEngine engine;
+    private final Class<T> clazz;
+    private final Rulebook rules;
+    private final FailurePolicy policy;
+    private final long threshold;
+    private final Object[] results;
+    private final ConcurrentLinkedQueue<BatchFailure> failures = new ConcurrentLinkedQueue<BatchFailure>();
+    private volatile boolean cancelled;
+
+    ParallelBatch(TransformerEngine engine, int size, Class<T> clazz, Rulebook rules, FailurePolicy policy, int threshold) {
+        this.engine = engine;
+        this.clazz = clazz;
+        this.rules = rules;
+        this.policy = policy;
+        this.threshold = Math.max(1, threshold);
+        this.results = new Object[size];
+    }
+
+    /**
+     * Transforms the elements of the spliterator, which must report exact sizes for itself and every split.
+     */
+    @SuppressWarnings("unchecked")
+    BatchResult<T> run(Spliterator<?> elements, ForkJoinPool pool) throws TransformerException {
+        pool.invoke(new Part(elements, 0));
+
+        List<BatchFailure> sortedFailures = new ArrayList<BatchFailure>(this.failures);
+        sortedFailures.sort(Comparator.comparingInt(BatchFailure::getIndex));
+        if (this.policy == FailurePolicy.FAIL_FAST && !sortedFailures.isEmpty()) {
+            BatchFailure failure = sortedFailures.get(0);
+            throw this.engine.failure("Could not transform element " + failure.getIndex() + " of the batch", failure.getCause());
+        }
+
+        List<T> transformed = new ArrayList<T>(this.results.length - sortedFailures.size());
+        for (Object result : this.results) {
+            if (result != FAILED) {
+                transformed.add((T) result);
+            }
+        }
+        return new BatchResult<T>(transformed, this.policy == FailurePolicy.COLLECT ? sortedFailures : new ArrayList<BatchFailure>());
+    }
+
+    private void transformPart(Spliterator<?> elements, int offset) {
+        Map<Class<?>, Object> resolved = new IdentityHashMap<Class<?>, Object>();
+        int[] index = { offset };
+        elements.forEachRemaining(element -> {
+            int position = index[0]++;
+            if (this.cancelled) {
+                return;
+            }
+            if (Objects.isNull(element)) {
+                return;
+            }
+            try {
+                TransformMapper<Object, T> mapper = this.engine.resolveForBatch(resolved, element.getClass(), this.clazz, this.rules);
+                this.results[position] = mapper.transform(element);
+            } catch (TransformerException ex) {
+                this.results[position] = FAILED;
+                if (this.policy != FailurePolicy.SKIP) {
+                    this.failures.add(new BatchFailure(position, element, ex));
+                }
+                if (this.policy == FailurePolicy.FAIL_FAST) {
+                    this.cancelled = true;
+                }
+            }
+        });
+    }
+
+    private final class Part extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Spliterator<?> elements;
+        private final int offset;
+
+        private Part(Spliterator<?> elements, int offset) {
+            this.elements = elements;
+            this.offset = offset;
+        }
+
+        @Override
+        protected void compute() {
+            Spliterator<?> remaining = this.elements;
+            int remainingOffset = this.offset;
+            List<Part> forked = new ArrayList<Part>();
+            while (remaining.estimateSize() > threshold && !cancelled) {
+                Spliterator<?> prefix = remaining.trySplit();
+                if (Objects.isNull(prefix)) {
+                    break;
+                }
+                int prefixSize = (int) prefix.getExactSizeIfKnown();
+                Part part = new Part(prefix, remainingOffset);
+                part.fork();
+                forked.add(part);
+                remainingOffset += prefixSize;
+            }
+            transformPart(remaining, remainingOffset);
+            for (Part part : forked) {
+                part.join();
+            }
+        }
+    }
+}
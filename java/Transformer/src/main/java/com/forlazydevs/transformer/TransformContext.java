@@ -0,0 +1,227 @@
+package com.forlazydevs.transformer;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import com.forlazydevs.transformer.exceptions.TransformerException;
+import com.forlazydevs.transformer.metrics.TransformerMetrics;
+import com.forlazydevs.transformer.rulebook.CompiledRulebook;
+import com.forlazydevs.transformer.rulebook.Rulebook;
+import com.forlazydevs.transformer.spi.TransformMapper;
+
+/**
+ * The state of a single transformation of an object graph.
+ * Every source instance is transformed once per target class and the result is reused wherever the instance is reached again,
+ * so references shared in the source stay shared in the result. Transformed objects are registered before their fields are copied,
+ * which lets cyclic references resolve to the object being transformed instead of recursing.
+ * The rules are captured once as a snapshot and every object reached is transformed under that snapshot, even if the rules change meanwhile.
+ */
+public final class TransformContext {
+
+    // Registered for objects built through their constructor until the constructor returns, references to them cannot be resolved before.
+    private static final Object CONSTRUCTING = new Object();
+
+    private final TransformerEngine engine;
+    private final Rulebook rules;
+    private final CompiledRulebook compiledRules;
+    // The first object transformed is kept in fields, most transformations never reach a second object.
+    private Object rootSource;
+    private Class<?> rootClass;
+    private Object rootTarget;
+    private Map<Class<?>, Map<Object, Object>> transformed;
+    // The last mapper resolved, so the elements of a collection resolve their mapper once.
+    private Class<?> lastSourceClass;
+    private Class<?> lastTargetClass;
+    private TransformMapper<Object, ?> lastMapper;
+    // The number of composed objects being transformed, and the most reached so far.
+    private int depth;
+    private int maxDepth;
+
+    /**
+     * Creates an empty context transforming with the default engine.
+     *
+     * @param rules - Rules to apply to the transformation, may be null.
+     */
+    public TransformContext(Rulebook rules) {
+        this(Transformer.getDefaultEngine(), rules);
+    }
+
+    /**
+     * Creates an empty context transforming composed objects with an engine.
+     *
+     * @param engine - The engine resolving the transformations of composed objects.
+     * @param rules - Rules to apply to the transformation, the default rules of the engine when null.
+     */
+    public TransformContext(TransformerEngine engine, Rulebook rules) {
+        this(engine, rules, TransformerEngine.snapshot(Objects.isNull(rules) ? engine.getDefaultRules() : rules));
+    }
+
+    TransformContext(TransformerEngine engine, Rulebook rules, CompiledRulebook compiledRules) {
+        this.engine = Objects.requireNonNull(engine);
+        this.rules = rules;
+        this.compiledRules = compiledRules;
+    }
+
+    /**
+     * Retrieves the engine of the transformation.
+     *
+     * @return TransformerEngine - The engine.
+     */
+    public TransformerEngine getEngine() {
+        return this.engine;
+    }
+
+    /**
+     * Retrieves the rules of the transformation.
+     *
+     * @return Rulebook - The rules, may be null.
+     */
+    public Rulebook getRules() {
+        return this.rules;
+    }
+
+    /**
+     * Retrieves the snapshot of the rules applied to every object of the transformation.
+     *
+     * @return CompiledRulebook - The rules, taken when the transformation started.
+     */
+    public CompiledRulebook getCompiledRules() {
+        return this.compiledRules;
+    }
+
+    /**
+     * Creates an empty context applying the same engine and snapshot of the rules, for a transformation deferred from this one.
+     * The new context shares none of the objects transformed so far.
+     *
+     * @return TransformContext - The new context.
+     */
+    public TransformContext detach() {
+        return new TransformContext(this.engine, this.rules, this.compiledRules);
+    }
+
+    /**
+     * Retrieves the metrics receiving the measurements of the transformation.
+     *
+     * @return TransformerMetrics - The metrics.
+     */
+    public TransformerMetrics getMetrics() {
+        return this.engine.getMetrics();
+    }
+
+    /**
+     * Transforms an object reached during the transformation, reusing the result if the object has already been transformed into the class.
+     *
+     * @param object - The object to transform.
+     * @param clazz - The class to transform the object into.
+     * @return T - The transformed object.
+     * @throws TransformerException - If the object cannot be transformed.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T transform(Object object, Class<T> clazz) throws TransformerException {
+        if (Objects.isNull(object)) {
+            return null;
+        }
+        Object existing = lookup(object, clazz);
+        if (existing == CONSTRUCTING) {
+            throw this.engine.failure("Could not transform a cyclic reference to " + object.getClass().getSimpleName() + " as " + clazz.getSimpleName() + " is built through its constructor.", null);
+        }
+        if (!Objects.isNull(existing)) {
+            return clazz.cast(existing);
+        }
+        this.engine.getMetrics().composedTransformed(object.getClass(), clazz);
+        TransformMapper<Object, T> mapper;
+        if (object.getClass() == this.lastSourceClass && clazz == this.lastTargetClass) {
+            mapper = (TransformMapper<Object, T>) this.lastMapper;
+        } else {
+            mapper = this.engine.resolveNested(object.getClass(), clazz, this.rules, this.compiledRules);
+            this.lastSourceClass = object.getClass();
+            this.lastTargetClass = clazz;
+            this.lastMapper = mapper;
+        }
+        this.maxDepth = Math.max(this.maxDepth, ++this.depth);
+        try {
+            if (mapper instanceof TransformerEngine.PlanMapper) {
+                return ((TransformerEngine.PlanMapper<T>) mapper).transform(object, this);
+            }
+            T result = mapper.transform(object);
+            register(object, clazz, result);
+            return result;
+        } finally {
+            this.depth--;
+        }
+    }
+
+    /**
+     * Updates an object reached during an incremental transformation, holding the transformation of an earlier state of the object,
+     * with the fields that changed since the previous object.
+     *
+     * @param previous - The earlier state of the object.
+     * @param current - The object to transform.
+     * @param target - The transformation of the earlier state, to update.
+     * @return boolean - False if the target cannot be updated in place, because the object has already been transformed into another instance
+     * or the target is built through its constructor, in which case the object should be transformed with {@link #transform(Object, Class)}.
+     * @throws TransformerException - If the object cannot be transformed.
+     */
+    @SuppressWarnings("unchecked")
+    public boolean transformChanges(Object previous, Object current, Object target) throws TransformerException {
+        Class<Object> clazz = (Class<Object>) target.getClass();
+        Object existing = lookup(current, clazz);
+        if (!Objects.isNull(existing)) {
+            return existing == target;
+        }
+        TransformerEngine.PlanMapper<Object> mapper = this.engine.resolveNestedPlan(current.getClass(), clazz, this.rules, this.compiledRules);
+        if (mapper.isConstructed()) {
+            return false;
+        }
+        this.maxDepth = Math.max(this.maxDepth, ++this.depth);
+        try {
+            mapper.applyChanges(previous, current, target, this);
+            return true;
+        } finally {
+            this.depth--;
+        }
+    }
+
+    /**
+     * Retrieves the deepest level of composed objects transformed so far, 0 if no composed object has been reached.
+     */
+    int getMaxDepth() {
+        return this.maxDepth;
+    }
+
+    /**
+     * Records that an instance is being transformed into a class built through its constructor.
+     */
+    void enter(Object source, Class<?> clazz) {
+        register(source, clazz, CONSTRUCTING);
+    }
+
+    /**
+     * Records the object an instance is transformed into, before its fields are copied.
+     */
+    void register(Object source, Class<?> clazz, Object target) {
+        if (Objects.isNull(this.rootSource) || (this.rootSource == source && this.rootClass == clazz)) {
+            this.rootSource = source;
+            this.rootClass = clazz;
+            this.rootTarget = target;
+            return;
+        }
+        if (Objects.isNull(this.transformed)) {
+            this.transformed = new HashMap<Class<?>, Map<Object, Object>>();
+        }
+        this.transformed.computeIfAbsent(clazz, key -> new IdentityHashMap<Object, Object>()).put(source, target);
+    }
+
+    private Object lookup(Object source, Class<?> clazz) {
+        if (this.rootSource == source && this.rootClass == clazz) {
+            return this.rootTarget;
+        }
+        if (Objects.isNull(this.transformed)) {
+            return null;
+        }
+        Map<Object, Object> targets = this.transformed.get(clazz);
+        return Objects.isNull(targets) ? null : targets.get(source);
+    }
+}
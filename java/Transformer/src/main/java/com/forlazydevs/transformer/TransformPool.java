@@ -0,0 +1,125 @@
+package com.forlazydevs.transformer;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+
+import com.forlazydevs.transformer.exceptions.TransformerException;
+import com.forlazydevs.transformer.rulebook.Rulebook;
+
+/**
+ * Transforms objects into instances of a class taken from a bounded pool, so hot loops can reuse their targets instead of allocating one per call.
+ * Released instances are populated again as they are, fields not copied by the transformation keep the values of their previous use.
+ * The transformation is resolved again whenever the version of the rules changes. The pool can be shared between threads.
+ * Classes built through a constructor taking their fields cannot be pooled, as their instances cannot be populated again.
+ */
+public class TransformPool<T> {
+
+    private final TransformerEngine engine;
+    private final Class<T> clazz;
+    private final Rulebook rules;
+    private final ArrayBlockingQueue<T> free;
+    private volatile ResolvedPlan<T> resolved;
+
+    /**
+     * Creates an empty pool transforming with the default engine.
+     *
+     * @param transformationClass - The class to transform objects into.
+     * @param rules - Rules to apply to the transformations, may be null.
+     * @param capacity - The maximum number of released instances kept for reuse.
+     * @throws IllegalArgumentException - If the class has no no-args constructor, its instances being built through their constructor.
+     */
+    public TransformPool(Class<T> transformationClass, Rulebook rules, int capacity) {
+        this(Transformer.getDefaultEngine(), transformationClass, rules, capacity);
+    }
+
+    /**
+     * Creates an empty pool transforming with an engine.
+     *
+     * @param engine - The engine transforming the objects.
+     * @param transformationClass - The class to transform objects into.
+     * @param rules - Rules to apply to the transformations, the default rules of the engine when null.
+     * @param capacity - The maximum number of released instances kept for reuse.
+     * @throws IllegalArgumentException - If the class has no no-args constructor, its instances being built through their constructor.
+     */
+    public TransformPool(TransformerEngine engine, Class<T> transformationClass, Rulebook rules, int capacity) {
+        this.engine = Objects.requireNonNull(engine);
+        this.clazz = Objects.requireNonNull(transformationClass);
+        if (!hasNoArgsConstructor(transformationClass)) {
+            throw new IllegalArgumentException("Class " + transformationClass.getSimpleName() + " is built through its constructor and cannot be pooled.");
+        }
+        this.rules = rules;
+        this.free = new ArrayBlockingQueue<T>(capacity);
+    }
+
+    /**
+     * Transforms an object into a pooled instance, or a new instance if the pool is empty.
+     *
+     * @param toTransform - The object to transform.
+     * @return T - The populated instance, null if toTransform is null.
+     * @throws TransformerException - If the transformer cannot transform the object.
+     */
+    public T acquire(Object toTransform) throws TransformerException {
+        if (Objects.isNull(toTransform)) {
+            return null;
+        }
+        TransformerEngine.PlanMapper<T> mapper = mapperFor(toTransform.getClass());
+        T target = this.free.poll();
+        if (Objects.isNull(target)) {
+            return mapper.transform(toTransform);
+        }
+        return mapper.transformInto(toTransform, target);
+    }
+
+    /**
+     * Returns an instance to the pool once the caller is done with it. Instances beyond the capacity of the pool are dropped.
+     *
+     * @param instance - The instance to reuse, ignored if it is null or not exactly of the transformation class.
+     */
+    public void release(T instance) {
+        if (!Objects.isNull(instance) && instance.getClass() == this.clazz) {
+            this.free.offer(instance);
+        }
+    }
+
+    /**
+     * Retrieves the number of instances waiting in the pool.
+     *
+     * @return int - The number of pooled instances.
+     */
+    public int size() {
+        return this.free.size();
+    }
+
+    private static boolean hasNoArgsConstructor(Class<?> clazz) {
+        try {
+            clazz.getDeclaredConstructor();
+            return true;
+        } catch (NoSuchMethodException ex) {
+            return false;
+        }
+    }
+
+    private TransformerEngine.PlanMapper<T> mapperFor(Class<?> sourceClass) throws TransformerException {
+        ResolvedPlan<T> last = this.resolved;
+        Rulebook appliedRules = Objects.isNull(this.rules) ? this.engine.getDefaultRules() : this.rules;
+        long version = Objects.isNull(appliedRules) ? 0L : appliedRules.getVersion();
+        if (!Objects.isNull(last) && last.sourceClass == sourceClass && last.version == version) {
+            return last.mapper;
+        }
+        TransformerEngine.PlanMapper<T> mapper = this.engine.resolvePlan(sourceClass, this.clazz, appliedRules);
+        this.resolved = new ResolvedPlan<T>(sourceClass, version, mapper);
+        return mapper;
+    }
+
+    private static final class ResolvedPlan<T> {
+        private final Class<?> sourceClass;
+        private final long version;
+        private final TransformerEngine.PlanMapper<T> mapper;
+
+        private ResolvedPlan(Class<?> sourceClass, long version, TransformerEngine.PlanMapper<T> mapper) {
+            this.sourceClass = sourceClass;
+            this.version = version;
+            this.mapper = mapper;
+        }
+    }
+}
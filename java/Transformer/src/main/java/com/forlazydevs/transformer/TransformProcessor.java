@@ -0,0 +1,272 @@
+package com.forlazydevs.transformer;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.forlazydevs.transformer.exceptions.UncheckedTransformerException;
+import com.forlazydevs.transformer.rulebook.Rulebook;
+
+/**
+ * A reactive stage transforming the items of a publisher into the specified class.
+ * At most bufferSize items are requested from upstream at once and more are only requested as transformed items are delivered downstream,
+ * so a slow subscriber bounds the memory held by the stage. Items are transformed on the executor, at most batchSize of them per task.
+ * A single subscriber is supported. If an item cannot be transformed, upstream is cancelled and the subscriber receives the {@link com.forlazydevs.transformer.exceptions.TransformerException},
+ * or whatever other exception the transformation or the subscriber threw.
+ */
+public class TransformProcessor<S, T> implements Flow.Processor<S, T> {
+
+    public static final int DEFAULT_BATCH_SIZE = 32;
+
+    private final ElementTransform<T> transform;
+    private final Executor executor;
+    private final int batchSize;
+    private final int bufferSize;
+    private final Queue<S> queue = new ConcurrentLinkedQueue<S>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicReference<Flow.Subscriber<? super T>> downstream = new AtomicReference<Flow.Subscriber<? super T>>();
+    private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<Flow.Subscription>();
+    private volatile boolean done;
+    private volatile Throwable error;
+    private volatile Throwable failure;
+    private volatile boolean cancelled;
+
+    /**
+     * Creates a stage transforming on the common fork-join pool with the default batch and buffer sizes.
+     *
+     * @param transformationClass - The class to transform the items into.
+     * @param rules - Rules to apply to the transformation, may be null.
+     */
+    public TransformProcessor(Class<T> transformationClass, Rulebook rules) {
+        this(transformationClass, rules, ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE, Flow.defaultBufferSize());
+    }
+
+    /**
+     * Creates a stage transforming with the default engine on the given executor.
+     *
+     * @param transformationClass - The class to transform the items into.
+     * @param rules - Rules to apply to the transformation, may be null.
+     * @param executor - The executor running the transformations.
+     * @param batchSize - The maximum number of items transformed by one task of the executor.
+     * @param bufferSize - The maximum number of items requested from upstream and not yet delivered downstream.
+     */
+    public TransformProcessor(Class<T> transformationClass, Rulebook rules, Executor executor, int batchSize, int bufferSize) {
+        this(Transformer.getDefaultEngine(), transformationClass, rules, executor, batchSize, bufferSize);
+    }
+
+    /**
+     * Creates a stage transforming with an engine on the given executor.
+     *
+     * @param engine - The engine transforming the items.
+     * @param transformationClass - The class to transform the items into.
+     * @param rules - Rules to apply to the transformation, the default rules of the engine when null.
+     * @param executor - The executor running the transformations.
+     * @param batchSize - The maximum number of items transformed by one task of the executor.
+     * @param bufferSize - The maximum number of items requested from upstream and not yet delivered downstream.
+     */
+    public TransformProcessor(TransformerEngine engine, Class<T> transformationClass, Rulebook rules, Executor executor, int batchSize, int bufferSize) {
+        if (batchSize <= 0 || bufferSize <= 0) {
+            throw new IllegalArgumentException("batchSize and bufferSize must be positive");
+        }
+        this.transform = new ElementTransform<T>(Objects.requireNonNull(engine), Objects.requireNonNull(transformationClass), rules);
+        this.executor = Objects.requireNonNull(executor);
+        this.batchSize = batchSize;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        if (!this.downstream.compareAndSet(null, subscriber)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {}
+
+                @Override
+                public void cancel() {}
+            });
+            subscriber.onError(new IllegalStateException("TransformProcessor supports a single subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                TransformProcessor.this.request(n);
+            }
+
+            @Override
+            public void cancel() {
+                TransformProcessor.this.cancel();
+            }
+        });
+        schedule();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (this.cancelled || !this.upstream.compareAndSet(null, subscription)) {
+            subscription.cancel();
+            return;
+        }
+        subscription.request(this.bufferSize);
+    }
+
+    @Override
+    public void onNext(S item) {
+        this.queue.offer(Objects.requireNonNull(item));
+        schedule();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        this.error = Objects.requireNonNull(throwable);
+        this.done = true;
+        schedule();
+    }
+
+    @Override
+    public void onComplete() {
+        this.done = true;
+        schedule();
+    }
+
+    private void request(long n) {
+        if (n <= 0) {
+            // Signalled by the next drain ahead of the queued items, as if the stage failed.
+            this.failure = new IllegalArgumentException("Requested " + n + " items, the number of items requested must be positive");
+            cancelUpstream();
+            schedule();
+            return;
+        }
+        this.requested.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+        schedule();
+    }
+
+    private void cancel() {
+        this.cancelled = true;
+        cancelUpstream();
+        schedule();
+    }
+
+    private void cancelUpstream() {
+        Flow.Subscription subscription = this.upstream.get();
+        if (!Objects.isNull(subscription)) {
+            subscription.cancel();
+        }
+    }
+
+    private void schedule() {
+        if (this.wip.getAndIncrement() == 0) {
+            submitDrain();
+        }
+    }
+
+    private void submitDrain() {
+        try {
+            this.executor.execute(this::drain);
+        } catch (RejectedExecutionException ex) {
+            this.cancelled = true;
+            cancelUpstream();
+            this.queue.clear();
+            Flow.Subscriber<? super T> subscriber = this.downstream.get();
+            if (!Objects.isNull(subscriber)) {
+                subscriber.onError(ex);
+            }
+        }
+    }
+
+    /**
+     * Delivers transformed items while there is demand, serialized by the work-in-progress counter so a single task drains at a time.
+     */
+    private void drain() {
+        int missed = 1;
+        for (;;) {
+            Flow.Subscriber<? super T> subscriber = this.downstream.get();
+            if (this.cancelled) {
+                this.queue.clear();
+                return;
+            }
+            if (!Objects.isNull(subscriber) && !Objects.isNull(this.failure)) {
+                fail(subscriber, this.failure);
+                return;
+            }
+            if (!Objects.isNull(subscriber)) {
+                long demand = this.requested.get();
+                int emitted = 0;
+                while (emitted < this.batchSize && emitted < demand && !this.cancelled) {
+                    S item = this.queue.poll();
+                    if (Objects.isNull(item)) {
+                        break;
+                    }
+                    T transformed;
+                    try {
+                        transformed = this.transform.apply(item);
+                    } catch (UncheckedTransformerException ex) {
+                        fail(subscriber, ex.getCause());
+                        return;
+                    } catch (RuntimeException ex) {
+                        fail(subscriber, ex);
+                        return;
+                    }
+                    try {
+                        subscriber.onNext(transformed);
+                    } catch (RuntimeException ex) {
+                        fail(subscriber, ex);
+                        return;
+                    }
+                    emitted++;
+                }
+                if (this.cancelled) {
+                    this.queue.clear();
+                    return;
+                }
+                if (this.done && this.queue.isEmpty()) {
+                    this.cancelled = true;
+                    Throwable failure = this.error;
+                    if (Objects.isNull(failure)) {
+                        subscriber.onComplete();
+                    } else {
+                        subscriber.onError(failure);
+                    }
+                    return;
+                }
+                if (emitted > 0) {
+                    if (demand != Long.MAX_VALUE) {
+                        this.requested.addAndGet(-emitted);
+                    }
+                    Flow.Subscription subscription = this.upstream.get();
+                    if (!Objects.isNull(subscription) && !this.done) {
+                        subscription.request(emitted);
+                    }
+                    if (emitted == this.batchSize) {
+                        // Leave the rest to a new task so one stage cannot hold a worker for an unbounded stream.
+                        submitDrain();
+                        return;
+                    }
+                }
+            }
+            missed = this.wip.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Terminates the stage with an error, the work-in-progress counter is left raised so no drain runs after the signal.
+     */
+    private void fail(Flow.Subscriber<? super T> subscriber, Throwable throwable) {
+        this.cancelled = true;
+        cancelUpstream();
+        this.queue.clear();
+        subscriber.onError(throwable);
+    }
+}
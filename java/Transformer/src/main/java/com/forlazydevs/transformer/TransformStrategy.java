@@ -0,0 +1,24 @@
+package com.forlazydevs.transformer;
+
+/**
+ * The ways the transformer can execute a compiled transform plan.
+ */
+public enum TransformStrategy {
+
+    /**
+     * Walks the field copies of the plan, reading and writing each field with Field.get and Field.set.
+     * Slower than {@link #HANDLES} once warm, but nothing is resolved beyond the reflected fields.
+     */
+    REFLECTIVE,
+
+    /**
+     * Walks the field copies of the plan, reading and writing each field through its method handles.
+     */
+    HANDLES,
+
+    /**
+     * Emits a dedicated mapper class for every plan on first use and runs its straight-line field copies.
+     * Falls back to {@link #HANDLES} for plans a class cannot be generated for, and on runtimes without hidden classes (before Java 15).
+     */
+    GENERATED
+}
@@ -0,0 +1,94 @@
+package com.forlazydevs.transformer;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import com.forlazydevs.transformer.annotations.Transformable;
+import com.forlazydevs.transformer.exceptions.TransformerException;
+
+/**
+ * Finds the classes marked with @Transformable in packages of the class path, from directories and jar files.
+ * Classes are loaded without being initialized and classes that cannot be loaded are skipped.
+ */
+final class TransformableScanner {
+
+    private static final String CLASS_SUFFIX = ".class";
+
+    private final ClassLoader loader;
+    // Sorted by name so preparation runs in the same order on every start.
+    private final Map<String, Class<?>> found = new TreeMap<String, Class<?>>();
+
+    TransformableScanner(ClassLoader loader) {
+        this.loader = loader;
+    }
+
+    void scan(String packageName) throws TransformerException {
+        String path = packageName.replace('.', '/');
+        try {
+            Enumeration<URL> resources = this.loader.getResources(path);
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                if ("file".equals(resource.getProtocol())) {
+                    scanDirectory(new File(URLDecoder.decode(resource.getPath(), StandardCharsets.UTF_8)), packageName);
+                } else if ("jar".equals(resource.getProtocol())) {
+                    scanJar(((JarURLConnection) resource.openConnection()).getJarFile(), path + "/");
+                }
+            }
+        } catch (IOException ex) {
+            throw new TransformerException("Could not scan package " + packageName, ex);
+        }
+    }
+
+    Collection<Class<?>> getFound() {
+        return this.found.values();
+    }
+
+    private void scanDirectory(File directory, String packageName) {
+        File[] files = directory.listFiles();
+        if (Objects.isNull(files)) {
+            return;
+        }
+        for (File file : files) {
+            if (file.isDirectory()) {
+                scanDirectory(file, packageName + "." + file.getName());
+            } else if (file.getName().endsWith(CLASS_SUFFIX)) {
+                load(packageName + "." + file.getName().substring(0, file.getName().length() - CLASS_SUFFIX.length()));
+            }
+        }
+    }
+
+    private void scanJar(JarFile jar, String prefix) {
+        Enumeration<JarEntry> entries = jar.entries();
+        while (entries.hasMoreElements()) {
+            String name = entries.nextElement().getName();
+            if (name.startsWith(prefix) && name.endsWith(CLASS_SUFFIX)) {
+                load(name.substring(0, name.length() - CLASS_SUFFIX.length()).replace('/', '.'));
+            }
+        }
+    }
+
+    private void load(String className) {
+        if (className.endsWith("module-info") || className.endsWith("package-info")) {
+            return;
+        }
+        try {
+            Class<?> clazz = Class.forName(className, false, this.loader);
+            if (clazz.isAnnotationPresent(Transformable.class)) {
+                this.found.put(className, clazz);
+            }
+        } catch (ClassNotFoundException | LinkageError ex) {
+            // Classes missing a dependency cannot be transformed either.
+        }
+    }
+}
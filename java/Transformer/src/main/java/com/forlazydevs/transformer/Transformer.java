@@ -1,19 +1,96 @@
 package com.forlazydevs.transformer;
 
-import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
-import com.forlazydevs.transformer.annotations.TransformComposed;
-import com.forlazydevs.transformer.annotations.TransformIdentity;
-import com.forlazydevs.transformer.annotations.Transformable;
+import com.forlazydevs.transformer.batch.BatchResult;
+import com.forlazydevs.transformer.batch.FailurePolicy;
+import com.forlazydevs.transformer.exceptions.MappingValidationException;
 import com.forlazydevs.transformer.exceptions.TransformerException;
+import com.forlazydevs.transformer.exceptions.UncheckedTransformerException;
+import com.forlazydevs.transformer.metrics.NoopTransformerMetrics;
+import com.forlazydevs.transformer.metrics.TransformerMetrics;
+import com.forlazydevs.transformer.plan.PlanCache;
 import com.forlazydevs.transformer.rulebook.Rulebook;
 
 public class Transformer {
-    
+
+    /**
+     * The number of elements below which parallel batch transformations stop splitting the batch.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1024;
+
+    private static volatile TransformerEngine defaultEngine = TransformerEngine.builder().planCache(PlanCache.shared()).build();
+
+    /**
+     * Retrieves the engine the static methods of this class delegate to.
+     *
+     * @return TransformerEngine - The default engine.
+     */
+    public static TransformerEngine getDefaultEngine() {
+        return defaultEngine;
+    }
+
+    /**
+     * Replaces the engine the static methods of this class delegate to, for example with an engine keeping a bounded plan cache.
+     *
+     * @param engine - The engine to use, by default an engine with the HANDLES strategy and an unbounded plan cache.
+     */
+    public static void setDefaultEngine(TransformerEngine engine) {
+        defaultEngine = Objects.requireNonNull(engine);
+    }
+
+    /**
+     * Retrieves the strategy used to execute transformations.
+     *
+     * @return TransformStrategy - The current strategy.
+     */
+    public static TransformStrategy getStrategy() {
+        return defaultEngine.getStrategy();
+    }
+
+    /**
+     * Sets the strategy used to execute transformations. The default engine is replaced by an engine sharing its plan cache.
+     *
+     * @param transformStrategy - The strategy to use, {@link TransformStrategy#HANDLES} by default.
+     */
+    public static void setStrategy(TransformStrategy transformStrategy) {
+        defaultEngine = defaultEngine.withStrategy(transformStrategy);
+    }
+
+    /**
+     * Retrieves the metrics receiving the measurements of the transformations.
+     *
+     * @return TransformerMetrics - The current metrics.
+     */
+    public static TransformerMetrics getMetrics() {
+        return defaultEngine.getMetrics();
+    }
+
+    /**
+     * Sets the metrics receiving the measurements of the transformations. The default engine is replaced by an engine sharing its plan cache.
+     *
+     * @param transformerMetrics - The metrics to use, {@link NoopTransformerMetrics#INSTANCE} by default.
+     */
+    public static void setMetrics(TransformerMetrics transformerMetrics) {
+        defaultEngine = defaultEngine.withMetrics(transformerMetrics);
+    }
+
+    /**
+     * Sets if the exceptions reporting transformation failures capture their stack traces. The default engine is replaced by an engine sharing its plan cache.
+     *
+     * @param captureStackTraces - False to report failures without stack traces, true by default.
+     */
+    public static void setCaptureStackTraces(boolean captureStackTraces) {
+        defaultEngine = defaultEngine.withStackTraces(captureStackTraces);
+    }
+
     /** 
      * Transforms an object into the specified class. 
      *
@@ -23,7 +100,7 @@ public class Transformer {
      * @throws TransformerException - If the transformer cannot transform the object. 
      */
     public static <T> T transform(Object toTransform, Class<T> transformationClass) throws TransformerException {
-        return _transform(toTransform, transformationClass, null);
+        return defaultEngine.transform(toTransform, transformationClass, null);
     }
 
     
@@ -37,108 +114,261 @@ public class Transformer {
      * @throws TransformerException - If the transformer cannot transform the object.
      */
     public static <T> T transform(Object toTransform, Class<T> transformationClass, Rulebook rules) throws TransformerException {
-        return _transform(toTransform, transformationClass, rules);
+        return defaultEngine.transform(toTransform, transformationClass, rules);
     }
 
-    private static void checkIfTransformable(Object object) throws TransformerException {
-        Class<?> clazz = object.getClass();
+    /**
+     * Transforms an object into an existing instance instead of creating a new one.
+     * Fields of the target that are not copied by the transformation keep their values.
+     *
+     * @param toTransform - The object to transform, the target is returned unchanged if it is null.
+     * @param target - The instance to populate.
+     * @param rules - Rules to apply to the transformation, may be null.
+     * @return T - The populated target.
+     * @throws TransformerException - If the transformer cannot transform the object into the target.
+     */
+    public static <T> T transformInto(Object toTransform, T target, Rulebook rules) throws TransformerException {
+        return defaultEngine.transformInto(toTransform, target, rules);
+    }
 
-        if(!clazz.isAnnotationPresent(Transformable.class))
-        {
-            throw new TransformerException("Class " + clazz.getSimpleName() + " has not been marked with @Transformable and will not be transformed.");
-        }
+    /**
+     * Updates an existing instance holding the transformation of an earlier state of an object, only writing the fields that differ between the
+     * previous and the current object. Composed fields that changed are updated the same way when the target already holds their transformation.
+     * Values are compared with Objects.deepEquals, so the previous object and its composed values must be distinct copies rather than objects
+     * modified in place, a composed object without equals shared by both states is seen as unchanged.
+     *
+     * @param previous - The earlier state of the object, every field is written if it is null.
+     * @param current - The object to transform.
+     * @param target - The instance to update.
+     * @param rules - Rules to apply to the transformation, may be null.
+     * @return FieldChanges - The fields written, one bit per field copied by the transformation.
+     * @throws TransformerException - If the transformer cannot transform the object into the target.
+     */
+    public static <T> FieldChanges transformChanges(Object previous, Object current, T target, Rulebook rules) throws TransformerException {
+        return defaultEngine.transformChanges(previous, current, target, rules);
     }
 
-    private static boolean isFieldInTransformedClass(String fieldName, Class<?> clazz) {
-        return Arrays.asList(clazz.getDeclaredFields())
-                    .stream()
-                    .map(field -> field.getName())
-                    .anyMatch(name -> name.equals(fieldName));
+    /**
+     * Transforms every element of a batch into the specified class, stopping at the first element that cannot be transformed.
+     * The transformation is resolved once per distinct class of the elements.
+     *
+     * @param toTransform - The objects to transform.
+     * @param transformationClass - The class to transform the objects into.
+     * @param rules - Rules to apply to the transformation, may be null.
+     * @return List&lt;T&gt; - The new instances of the transformationClass, in the order of the batch.
+     * @throws TransformerException - If an element cannot be transformed.
+     */
+    public static <T> List<T> transformAll(Iterable<?> toTransform, Class<T> transformationClass, Rulebook rules) throws TransformerException {
+        return transformAll(toTransform, transformationClass, rules, FailurePolicy.FAIL_FAST).getResults();
     }
 
-    private static <T> void processRuleBook(Field fieldContainingValue, Object valueToSet, String transformableFieldName, Object transformedObject, Class<T> classToTransformTo, Rulebook rules) throws NoSuchFieldException, SecurityException, TransformerException, IllegalArgumentException, IllegalAccessException {
-        Object finalValueToSet = null;
-        boolean composedTransformedHappened = false;
-        // Process field rules first
-        String fieldNameToSet = transformableFieldName;
-        if(!Objects.isNull(rules) && rules.hasFieldRules() && rules.getFieldNameRules().containsKey(transformableFieldName)){
-            fieldNameToSet = rules.getFieldNameRules().get(transformableFieldName);
-        }
+    /**
+     * Transforms every element of a list into the specified class, stopping at the first element that cannot be transformed.
+     *
+     * @param toTransform - The objects to transform.
+     * @param transformationClass - The class to transform the objects into.
+     * @param rules - Rules to apply to the transformation, may be null.
+     * @return List&lt;T&gt; - The new instances of the transformationClass, in the order of the list.
+     * @throws TransformerException - If an element cannot be transformed.
+     */
+    public static <T> List<T> transformAll(List<?> toTransform, Class<T> transformationClass, Rulebook rules) throws TransformerException {
+        return transformAll(toTransform, transformationClass, rules, FailurePolicy.FAIL_FAST).getResults();
+    }
 
-        // If field is not in new class. skip it.
-        if(!isFieldInTransformedClass(fieldNameToSet, classToTransformTo)){
-            return;
-        }
+    /**
+     * Transforms every element of an array into the specified class, stopping at the first element that cannot be transformed.
+     *
+     * @param toTransform - The objects to transform.
+     * @param transformationClass - The class to transform the objects into.
+     * @param rules - Rules to apply to the transformation, may be null.
+     * @return List&lt;T&gt; - The new instances of the transformationClass, in the order of the array.
+     * @throws TransformerException - If an element cannot be transformed.
+     */
+    public static <T> List<T> transformAll(Object[] toTransform, Class<T> transformationClass, Rulebook rules) throws TransformerException {
+        return transformAll(Arrays.asList(toTransform), transformationClass, rules);
+    }
 
-        Field transformedField = classToTransformTo.getDeclaredField(fieldNameToSet);
-        transformedField.setAccessible(true);
-        // Process Composed Transform Rules
-        if(fieldContainingValue.isAnnotationPresent(TransformComposed.class)) {
-            Class<?> fieldClass = valueToSet.getClass();
-            // Process the composed rules for specified fields first.
-            if (!Objects.isNull(rules) && rules.hasComposedRules() && rules.getComposedRules().containsKey(transformableFieldName)) {
-                finalValueToSet = transformComposedField(valueToSet, transformableFieldName, rules);
-                composedTransformedHappened = true;
-            } else if(!Objects.isNull(rules) && rules.hasComposedRules() && rules.getComposedRules().containsKey(fieldClass))
-            {
-                finalValueToSet = transformComposedField(valueToSet, fieldClass, rules);
-                composedTransformedHappened = true;
-            }
-        }
+    /**
+     * Transforms every element of a batch into the specified class, handling elements that cannot be transformed according to the policy.
+     *
+     * @param toTransform - The objects to transform.
+     * @param transformationClass - The class to transform the objects into.
+     * @param rules - Rules to apply to the transformation, may be null.
+     * @param policy - How to handle elements that cannot be transformed.
+     * @return BatchResult&lt;T&gt; - The transformed elements and, with {@link FailurePolicy#COLLECT}, the failures.
+     * @throws TransformerException - If an element cannot be transformed and the policy is {@link FailurePolicy#FAIL_FAST}.
+     */
+    public static <T> BatchResult<T> transformAll(Iterable<?> toTransform, Class<T> transformationClass, Rulebook rules, FailurePolicy policy) throws TransformerException {
+        return defaultEngine.transformAll(toTransform, transformationClass, rules, policy);
+    }
 
-        // Process Identity Transformation
-        if(!composedTransformedHappened && fieldContainingValue.isAnnotationPresent(TransformIdentity.class)){
-            String identityFieldName = fieldContainingValue.getAnnotation(TransformIdentity.class).value();
-            Class<?> fieldClass = valueToSet.getClass();
-            Field identityField = fieldClass.getDeclaredField(identityFieldName);
-            identityField.setAccessible(true);
-            finalValueToSet = identityField.get(valueToSet);
-        }
+    /**
+     * Transforms every element of a list into the specified class, handling elements that cannot be transformed according to the policy.
+     *
+     * @param toTransform - The objects to transform.
+     * @param transformationClass - The class to transform the objects into.
+     * @param rules - Rules to apply to the transformation, may be null.
+     * @param policy - How to handle elements that cannot be transformed.
+     * @return BatchResult&lt;T&gt; - The transformed elements and, with {@link FailurePolicy#COLLECT}, the failures.
+     * @throws TransformerException - If an element cannot be transformed and the policy is {@link FailurePolicy#FAIL_FAST}.
+     */
+    public static <T> BatchResult<T> transformAll(List<?> toTransform, Class<T> transformationClass, Rulebook rules, FailurePolicy policy) throws TransformerException {
+        return defaultEngine.transformAll(toTransform, transformationClass, rules, policy);
+    }
 
-        //SetValue
-        transformedField.set(transformedObject, Objects.isNull(finalValueToSet) ? valueToSet : finalValueToSet);
+    /**
+     * Transforms every element of an array into the specified class, handling elements that cannot be transformed according to the policy.
+     *
+     * @param toTransform - The objects to transform.
+     * @param transformationClass - The class to transform the objects into.
+     * @param rules - Rules to apply to the transformation, may be null.
+     * @param policy - How to handle elements that cannot be transformed.
+     * @return BatchResult&lt;T&gt; - The transformed elements and, with {@link FailurePolicy#COLLECT}, the failures.
+     * @throws TransformerException - If an element cannot be transformed and the policy is {@link FailurePolicy#FAIL_FAST}.
+     */
+    public static <T> BatchResult<T> transformAll(Object[] toTransform, Class<T> transformationClass, Rulebook rules, FailurePolicy policy) throws TransformerException {
+        return defaultEngine.transformAll(toTransform, transformationClass, rules, policy);
     }
 
-    private static <T> T _transform(Object object, Class<T> clazz, Rulebook rules) throws TransformerException {
-        
-        //Returns null if the object is null.
-        if(Objects.isNull(object))
-        {
-            return null;
-        }
+    /**
+     * Transforms every element of a collection into the specified class on the common fork-join pool, stopping at the first element that cannot be transformed.
+     *
+     * @param toTransform - The objects to transform.
+     * @param transformationClass - The class to transform the objects into.
+     * @param rules - Rules to apply to the transformation, may be null.
+     * @return List&lt;T&gt; - The new instances of the transformationClass, in the order of the collection.
+     * @throws TransformerException - If an element cannot be transformed.
+     */
+    public static <T> List<T> transformAllParallel(Collection<?> toTransform, Class<T> transformationClass, Rulebook rules) throws TransformerException {
+        return transformAllParallel(toTransform, transformationClass, rules, FailurePolicy.FAIL_FAST, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD).getResults();
+    }
 
-        checkIfTransformable(object);
-        Class<?> toBeTransformedClass = object.getClass();
-
-        try {
-            T transformedObject = clazz.getDeclaredConstructor().newInstance();
-
-            // Retrieves the list of fields from the object to transform.
-            List<String> toBeTransformedFields = Arrays.asList(toBeTransformedClass.getDeclaredFields())
-                .stream()
-                .map(field -> field.getName())
-                .collect(Collectors.toList());
-            
-            for(String fieldName: toBeTransformedFields) {
-                Field toBeTransformedField = toBeTransformedClass.getDeclaredField(fieldName);
-                toBeTransformedField.setAccessible(true);
-                Object fieldValue = toBeTransformedField.get(object);
-                processRuleBook(toBeTransformedField, fieldValue, fieldName, transformedObject, clazz, rules);
-            }
-
-            return transformedObject;
-
-        } catch(Exception ex) {
-            throw new TransformerException("Could not transform " + toBeTransformedClass.getSimpleName(), ex);
-        }
+    /**
+     * Transforms every element of a collection into the specified class on a fork-join pool.
+     * The collection is split until a part holds no more elements than the threshold, the results keep the order of the collection.
+     *
+     * @param toTransform - The objects to transform.
+     * @param transformationClass - The class to transform the objects into.
+     * @param rules - Rules to apply to the transformation, may be null. It must not be modified during the transformation.
+     * @param policy - How to handle elements that cannot be transformed.
+     * @param pool - The pool to run the transformation on.
+     * @param threshold - The number of elements below which a part is transformed sequentially.
+     * @return BatchResult&lt;T&gt; - The transformed elements and, with {@link FailurePolicy#COLLECT}, the failures.
+     * @throws TransformerException - If an element cannot be transformed and the policy is {@link FailurePolicy#FAIL_FAST}.
+     */
+    public static <T> BatchResult<T> transformAllParallel(Collection<?> toTransform, Class<T> transformationClass, Rulebook rules, FailurePolicy policy, ForkJoinPool pool, int threshold) throws TransformerException {
+        return defaultEngine.transformAllParallel(toTransform, transformationClass, rules, policy, pool, threshold);
+    }
+
+    /**
+     * Transforms every element of an array into the specified class on a fork-join pool.
+     * The array is split until a part holds no more elements than the threshold, the results keep the order of the array.
+     *
+     * @param toTransform - The objects to transform.
+     * @param transformationClass - The class to transform the objects into.
+     * @param rules - Rules to apply to the transformation, may be null. It must not be modified during the transformation.
+     * @param policy - How to handle elements that cannot be transformed.
+     * @param pool - The pool to run the transformation on.
+     * @param threshold - The number of elements below which a part is transformed sequentially.
+     * @return BatchResult&lt;T&gt; - The transformed elements and, with {@link FailurePolicy#COLLECT}, the failures.
+     * @throws TransformerException - If an element cannot be transformed and the policy is {@link FailurePolicy#FAIL_FAST}.
+     */
+    public static <T> BatchResult<T> transformAllParallel(Object[] toTransform, Class<T> transformationClass, Rulebook rules, FailurePolicy policy, ForkJoinPool pool, int threshold) throws TransformerException {
+        return defaultEngine.transformAllParallel(toTransform, transformationClass, rules, policy, pool, threshold);
+    }
+
+    /**
+     * Resolves and validates a transformation ahead of its first use, so the first call does not pay for it.
+     * With the GENERATED strategy the bytecode mapper of the transformation is generated as well.
+     *
+     * @param sourceClass - The class of the objects to transform.
+     * @param transformationClass - The class to transform the objects into.
+     * @param rules - Rules to apply to the transformation, may be null. Transformations are prepared per rules.
+     * @throws TransformerException - If the transformation is invalid.
+     */
+    public static void prepare(Class<?> sourceClass, Class<?> transformationClass, Rulebook rules) throws TransformerException {
+        prepare(sourceClass, transformationClass, rules, 0);
+    }
+
+    /**
+     * Resolves and validates a transformation ahead of its first use, then transforms instances created with the no-args constructor of the
+     * source class so the JIT compiles the transformation before real traffic reaches it. The warm-up is skipped for source classes without such a constructor.
+     *
+     * @param sourceClass - The class of the objects to transform.
+     * @param transformationClass - The class to transform the objects into.
+     * @param rules - Rules to apply to the transformation, may be null. Transformations are prepared per rules.
+     * @param warmupIterations - The number of warm-up transformations, 0 to only resolve the transformation.
+     * @throws TransformerException - If the transformation is invalid or a warm-up transformation fails.
+     */
+    public static void prepare(Class<?> sourceClass, Class<?> transformationClass, Rulebook rules, int warmupIterations) throws TransformerException {
+        defaultEngine.prepare(sourceClass, transformationClass, rules, warmupIterations);
+    }
+
+    /**
+     * Checks a transformation without transforming anything, reporting every problem found instead of stopping at the first.
+     *
+     * @param sourceClass - The class of the objects to transform.
+     * @param transformationClass - The class to transform the objects into.
+     * @param rules - Rules to apply to the transformation, may be null.
+     * @throws MappingValidationException - If the transformation has problems, all of which are listed by the exception.
+     */
+    public static void validate(Class<?> sourceClass, Class<?> transformationClass, Rulebook rules) throws MappingValidationException {
+        defaultEngine.validate(sourceClass, transformationClass, rules);
+    }
+
+    /**
+     * Prepares the transformation of every class into each of the targets declared on its @Transformable annotation.
+     *
+     * @param sourceClasses - The classes of the objects to transform, such as the classes returned by {@link #discover(ClassLoader, String...)}.
+     * @param rules - Rules to apply to the transformations, may be null.
+     * @param warmupIterations - The number of warm-up transformations per pair of classes, 0 to only resolve the transformations.
+     * @return int - The number of transformations prepared.
+     * @throws TransformerException - If a class is not marked with @Transformable or a transformation is invalid.
+     */
+    public static int prepareAll(Collection<Class<?>> sourceClasses, Rulebook rules, int warmupIterations) throws TransformerException {
+        return defaultEngine.prepareAll(sourceClasses, rules, warmupIterations);
     }
 
-    private static Object transformComposedField(Object valueToSet, Object key, Rulebook rules) throws TransformerException {
-        Object val = rules.getComposedRules().get(key);
-        if(Objects.isNull(val)){
-            return valueToSet;
+    /**
+     * Finds the classes marked with @Transformable in packages of the class path and their sub-packages.
+     * Classes are loaded without being initialized.
+     *
+     * @param loader - The class loader to search, the loader of the Transformer when null.
+     * @param packageNames - The names of the packages to search.
+     * @return List&lt;Class&lt;?&gt;&gt; - The @Transformable classes, sorted by name.
+     * @throws TransformerException - If the class path cannot be read.
+     */
+    public static List<Class<?>> discover(ClassLoader loader, String... packageNames) throws TransformerException {
+        TransformableScanner scanner = new TransformableScanner(Objects.isNull(loader) ? Transformer.class.getClassLoader() : loader);
+        for(String packageName : packageNames) {
+            scanner.scan(packageName);
         }
-        else 
-            return transform(valueToSet, (Class<?>)val, rules);
+        return new ArrayList<Class<?>>(scanner.getFound());
+    }
+
+    /**
+     * Lazily transforms the elements of a stream into the specified class as they are consumed.
+     * Elements that cannot be transformed throw an {@link UncheckedTransformerException} from the terminal operation of the stream.
+     *
+     * @param toTransform - The objects to transform.
+     * @param transformationClass - The class to transform the objects into.
+     * @param rules - Rules to apply to the transformation, may be null.
+     * @return Stream&lt;T&gt; - A stream of the new instances of the transformationClass.
+     */
+    public static <T> Stream<T> stream(Stream<?> toTransform, Class<T> transformationClass, Rulebook rules) {
+        return defaultEngine.stream(toTransform, transformationClass, rules);
+    }
+
+    /**
+     * Lazily transforms the elements of an iterator into the specified class as they are consumed.
+     * Elements that cannot be transformed throw an {@link UncheckedTransformerException} from {@link Iterator#next()}.
+     *
+     * @param toTransform - The objects to transform.
+     * @param transformationClass - The class to transform the objects into.
+     * @param rules - Rules to apply to the transformation, may be null.
+     * @return Iterator&lt;T&gt; - An iterator over the new instances of the transformationClass.
+     */
+    public static <T> Iterator<T> iterator(Iterator<?> toTransform, Class<T> transformationClass, Rulebook rules) {
+        return defaultEngine.iterator(toTransform, transformationClass, rules);
     }
 }
@@ -0,0 +1,856 @@
+package com.forlazydevs.transformer;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import jdk.jfr.EventType;
+
+import com.forlazydevs.transformer.batch.BatchFailure;
+import com.forlazydevs.transformer.batch.BatchResult;
+import com.forlazydevs.transformer.batch.FailurePolicy;
+import com.forlazydevs.transformer.exceptions.MappingValidationException;
+import com.forlazydevs.transformer.exceptions.NotTransformableException;
+import com.forlazydevs.transformer.exceptions.TransformerException;
+import com.forlazydevs.transformer.exceptions.UncheckedTransformerException;
+import com.forlazydevs.transformer.jfr.TransformEvent;
+import com.forlazydevs.transformer.jfr.TransformFailureEvent;
+import com.forlazydevs.transformer.metrics.NoopTransformerMetrics;
+import com.forlazydevs.transformer.metrics.TransformerMetrics;
+import com.forlazydevs.transformer.plan.ClassMetadata;
+import com.forlazydevs.transformer.plan.MappingValidator;
+import com.forlazydevs.transformer.plan.PlanCache;
+import com.forlazydevs.transformer.plan.TransformPlan;
+import com.forlazydevs.transformer.rulebook.CompiledRulebook;
+import com.forlazydevs.transformer.rulebook.Rulebook;
+import com.forlazydevs.transformer.spi.MapperRegistry;
+import com.forlazydevs.transformer.spi.TransformMapper;
+
+/**
+ * Transforms objects with its own strategy, plan cache, default rules and metrics, so parts of an application can make different
+ * tradeoffs between memory and speed. Engines are immutable once built and can be shared between threads.
+ * The static methods of {@link Transformer} use a default engine.
+ */
+public final class TransformerEngine {
+
+    private static final EventType TRANSFORM_EVENT = EventType.getEventType(TransformEvent.class);
+    private static final EventType FAILURE_EVENT = EventType.getEventType(TransformFailureEvent.class);
+    // Thrown repeatedly by engines that do not capture stack traces, created once per class.
+    private static final ClassValue<NotTransformableException> NOT_TRANSFORMABLE = new ClassValue<NotTransformableException>() {
+        @Override
+        protected NotTransformableException computeValue(Class<?> type) {
+            return new NotTransformableException(type, false);
+        }
+    };
+
+    private final TransformStrategy strategy;
+    private final PlanCache plans;
+    private final Rulebook defaultRules;
+    private final TransformerMetrics metrics;
+    private final boolean stackTraces;
+
+    private TransformerEngine(TransformStrategy strategy, PlanCache plans, Rulebook defaultRules, TransformerMetrics metrics, boolean stackTraces) {
+        this.strategy = strategy;
+        this.plans = plans;
+        this.defaultRules = defaultRules;
+        this.metrics = metrics;
+        this.stackTraces = stackTraces;
+    }
+
+    /**
+     * Creates a builder of an engine using the HANDLES strategy, an unbounded plan cache, no default rules and no metrics.
+     *
+     * @return Builder - The new builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates an engine sharing the plan cache of this engine with another strategy.
+     */
+    TransformerEngine withStrategy(TransformStrategy transformStrategy) {
+        return new TransformerEngine(Objects.requireNonNull(transformStrategy), this.plans, this.defaultRules, this.metrics, this.stackTraces);
+    }
+
+    /**
+     * Creates an engine sharing the plan cache of this engine with other metrics.
+     */
+    TransformerEngine withMetrics(TransformerMetrics transformerMetrics) {
+        return new TransformerEngine(this.strategy, this.plans, this.defaultRules, Objects.requireNonNull(transformerMetrics), this.stackTraces);
+    }
+
+    /**
+     * Creates an engine sharing the plan cache of this engine that does or does not capture the stack traces of transformation failures.
+     */
+    TransformerEngine withStackTraces(boolean captureStackTraces) {
+        return new TransformerEngine(this.strategy, this.plans, this.defaultRules, this.metrics, captureStackTraces);
+    }
+
+    /**
+     * Retrieves the strategy used to execute transformations.
+     *
+     * @return TransformStrategy - The strategy of the engine.
+     */
+    public TransformStrategy getStrategy() {
+        return this.strategy;
+    }
+
+    /**
+     * Retrieves the metrics receiving the measurements of the transformations.
+     *
+     * @return TransformerMetrics - The metrics of the engine.
+     */
+    public TransformerMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * Retrieves the rules applied to transformations called without rules.
+     *
+     * @return Rulebook - The default rules, may be null.
+     */
+    public Rulebook getDefaultRules() {
+        return this.defaultRules;
+    }
+
+    /**
+     * Determines if the exceptions reporting transformation failures capture their stack traces.
+     *
+     * @return boolean - A flag representing if failures capture stack traces.
+     */
+    public boolean isCapturingStackTraces() {
+        return this.stackTraces;
+    }
+
+    /**
+     * Retrieves the cache of the compiled transform plans of the engine.
+     *
+     * @return PlanCache - The plan cache.
+     */
+    public PlanCache getPlanCache() {
+        return this.plans;
+    }
+
+    /**
+     * Transforms an object into the specified class with the default rules.
+     *
+     * @param toTransform - The object to transform.
+     * @param transformationClass - The class to transform the toTransform object into.
+     * @return T - A new instance of the transformationClass, null if toTransform is null.
+     * @throws TransformerException - If the transformer cannot transform the object.
+     */
+    public <T> T transform(Object toTransform, Class<T> transformationClass) throws TransformerException {
+        return transform(toTransform, transformationClass, null);
+    }
+
+    /**
+     * Transforms an object into the specified class.
+     *
+     * @param toTransform - The object to transform.
+     * @param transformationClass - The class to transform the toTransform object into.
+     * @param rules - Rules to apply to the transformation, the default rules when null.
+     * @return T - A new instance of the transformationClass, null if toTransform is null.
+     * @throws TransformerException - If the transformer cannot transform the object.
+     */
+    public <T> T transform(Object toTransform, Class<T> transformationClass, Rulebook rules) throws TransformerException {
+        //Returns null if the object is null.
+        if(Objects.isNull(toTransform)) {
+            return null;
+        }
+        return resolve(toTransform.getClass(), transformationClass, rules).transform(toTransform);
+    }
+
+    /**
+     * Transforms an object into an existing instance instead of creating a new one.
+     * Fields of the target that are not copied by the transformation keep their values.
+     *
+     * @param toTransform - The object to transform, the target is returned unchanged if it is null.
+     * @param target - The instance to populate, it must not be built through its constructor.
+     * @param rules - Rules to apply to the transformation, the default rules when null.
+     * @return T - The populated target.
+     * @throws TransformerException - If the transformer cannot transform the object into the target.
+     */
+    public <T> T transformInto(Object toTransform, T target, Rulebook rules) throws TransformerException {
+        if(Objects.isNull(target)) {
+            throw new TransformerException("The target of the transformation must not be null.");
+        }
+        if(Objects.isNull(toTransform)) {
+            return target;
+        }
+        @SuppressWarnings("unchecked")
+        Class<T> clazz = (Class<T>) target.getClass();
+        return resolvePlan(toTransform.getClass(), clazz, rules).transformInto(toTransform, target);
+    }
+
+    /**
+     * Updates an existing instance holding the transformation of an earlier state of an object, only writing the fields that differ between the
+     * previous and the current object. Composed fields that changed are updated the same way when the target already holds their transformation.
+     * Values are compared with Objects.deepEquals, so the previous object must be a distinct copy rather than the current object modified in place,
+     * and so must its composed values: a composed object without equals that is shared by both states and modified in place is seen as unchanged.
+     *
+     * @param previous - The earlier state of the object, every field is written if it is null or of another class than the current object.
+     * @param current - The object to transform, nothing is written if it is null.
+     * @param target - The instance to update, it must not be built through its constructor.
+     * @param rules - Rules to apply to the transformation, the default rules when null.
+     * @return FieldChanges - The fields written, one bit per field copied by the transformation.
+     * @throws TransformerException - If the transformer cannot transform the object into the target.
+     */
+    public <T> FieldChanges transformChanges(Object previous, Object current, T target, Rulebook rules) throws TransformerException {
+        if(Objects.isNull(target)) {
+            throw new TransformerException("The target of the transformation must not be null.");
+        }
+        if(Objects.isNull(current)) {
+            return new FieldChanges(List.of(), new long[0]);
+        }
+        @SuppressWarnings("unchecked")
+        Class<T> clazz = (Class<T>) target.getClass();
+        return resolvePlan(current.getClass(), clazz, rules).transformChanges(previous, current, target);
+    }
+
+    /**
+     * Transforms every element of a batch into the specified class, handling elements that cannot be transformed according to the policy.
+     * The transformation is resolved once per distinct class of the elements.
+     *
+     * @param toTransform - The objects to transform.
+     * @param transformationClass - The class to transform the objects into.
+     * @param rules - Rules to apply to the transformation, the default rules when null.
+     * @param policy - How to handle elements that cannot be transformed.
+     * @return BatchResult&lt;T&gt; - The transformed elements and, with {@link FailurePolicy#COLLECT}, the failures.
+     * @throws TransformerException - If an element cannot be transformed and the policy is {@link FailurePolicy#FAIL_FAST}.
+     */
+    public <T> BatchResult<T> transformAll(Iterable<?> toTransform, Class<T> transformationClass, Rulebook rules, FailurePolicy policy) throws TransformerException {
+        int expectedSize = toTransform instanceof Collection ? ((Collection<?>) toTransform).size() : 16;
+        return transformEach(toTransform.iterator(), expectedSize, transformationClass, rules, policy);
+    }
+
+    /**
+     * Transforms every element of an array into the specified class, handling elements that cannot be transformed according to the policy.
+     *
+     * @param toTransform - The objects to transform.
+     * @param transformationClass - The class to transform the objects into.
+     * @param rules - Rules to apply to the transformation, the default rules when null.
+     * @param policy - How to handle elements that cannot be transformed.
+     * @return BatchResult&lt;T&gt; - The transformed elements and, with {@link FailurePolicy#COLLECT}, the failures.
+     * @throws TransformerException - If an element cannot be transformed and the policy is {@link FailurePolicy#FAIL_FAST}.
+     */
+    public <T> BatchResult<T> transformAll(Object[] toTransform, Class<T> transformationClass, Rulebook rules, FailurePolicy policy) throws TransformerException {
+        return transformEach(Arrays.asList(toTransform).iterator(), toTransform.length, transformationClass, rules, policy);
+    }
+
+    /**
+     * Transforms every element of a collection into the specified class on a fork-join pool.
+     * The collection is split until a part holds no more elements than the threshold, the results keep the order of the collection.
+     *
+     * @param toTransform - The objects to transform.
+     * @param transformationClass - The class to transform the objects into.
+     * @param rules - Rules to apply to the transformation, the default rules when null. It must not be modified during the transformation.
+     * @param policy - How to handle elements that cannot be transformed.
+     * @param pool - The pool to run the transformation on.
+     * @param threshold - The number of elements below which a part is transformed sequentially.
+     * @return BatchResult&lt;T&gt; - The transformed elements and, with {@link FailurePolicy#COLLECT}, the failures.
+     * @throws TransformerException - If an element cannot be transformed and the policy is {@link FailurePolicy#FAIL_FAST}.
+     */
+    public <T> BatchResult<T> transformAllParallel(Collection<?> toTransform, Class<T> transformationClass, Rulebook rules, FailurePolicy policy, ForkJoinPool pool, int threshold) throws TransformerException {
+        Spliterator<?> elements = toTransform.spliterator();
+        // Results are placed by offset, which requires exact sizes for every split.
+        if(!elements.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED)) {
+            elements = Spliterators.spliterator(toTransform.toArray(), Spliterator.ORDERED);
+        }
+        return new ParallelBatch<T>(this, (int) elements.getExactSizeIfKnown(), transformationClass, rules, policy, threshold).run(elements, pool);
+    }
+
+    /**
+     * Transforms every element of an array into the specified class on a fork-join pool.
+     * The array is split until a part holds no more elements than the threshold, the results keep the order of the array.
+     *
+     * @param toTransform - The objects to transform.
+     * @param transformationClass - The class to transform the objects into.
+     * @param rules - Rules to apply to the transformation, the default rules when null. It must not be modified during the transformation.
+     * @param policy - How to handle elements that cannot be transformed.
+     * @param pool - The pool to run the transformation on.
+     * @param threshold - The number of elements below which a part is transformed sequentially.
+     * @return BatchResult&lt;T&gt; - The transformed elements and, with {@link FailurePolicy#COLLECT}, the failures.
+     * @throws TransformerException - If an element cannot be transformed and the policy is {@link FailurePolicy#FAIL_FAST}.
+     */
+    public <T> BatchResult<T> transformAllParallel(Object[] toTransform, Class<T> transformationClass, Rulebook rules, FailurePolicy policy, ForkJoinPool pool, int threshold) throws TransformerException {
+        return new ParallelBatch<T>(this, toTransform.length, transformationClass, rules, policy, threshold).run(Spliterators.spliterator(toTransform, Spliterator.ORDERED), pool);
+    }
+
+    /**
+     * Lazily transforms the elements of a stream into the specified class as they are consumed.
+     * Elements that cannot be transformed throw an {@link UncheckedTransformerException} from the terminal operation of the stream.
+     *
+     * @param toTransform - The objects to transform.
+     * @param transformationClass - The class to transform the objects into.
+     * @param rules - Rules to apply to the transformation, the default rules when null.
+     * @return Stream&lt;T&gt; - A stream of the new instances of the transformationClass.
+     */
+    public <T> Stream<T> stream(Stream<?> toTransform, Class<T> transformationClass, Rulebook rules) {
+        return toTransform.map(new ElementTransform<T>(this, transformationClass, rules));
+    }
+
+    /**
+     * Lazily transforms the elements of an iterator into the specified class as they are consumed.
+     * Elements that cannot be transformed throw an {@link UncheckedTransformerException} from {@link Iterator#next()}.
+     *
+     * @param toTransform - The objects to transform.
+     * @param transformationClass - The class to transform the objects into.
+     * @param rules - Rules to apply to the transformation, the default rules when null.
+     * @return Iterator&lt;T&gt; - An iterator over the new instances of the transformationClass.
+     */
+    public <T> Iterator<T> iterator(Iterator<?> toTransform, Class<T> transformationClass, Rulebook rules) {
+        ElementTransform<T> transform = new ElementTransform<T>(this, transformationClass, rules);
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return toTransform.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return transform.apply(toTransform.next());
+            }
+
+            @Override
+            public void remove() {
+                toTransform.remove();
+            }
+        };
+    }
+
+    /**
+     * Validates and resolves a transformation ahead of its first use, then transforms instances created with the no-args constructor of the
+     * source class so the JIT compiles the transformation before real traffic reaches it. The warm-up is skipped for source classes without such a constructor.
+     * With the GENERATED strategy the bytecode mapper of the transformation is generated as well.
+     *
+     * @param sourceClass - The class of the objects to transform.
+     * @param transformationClass - The class to transform the objects into.
+     * @param rules - Rules to apply to the transformation, the default rules when null. Transformations are prepared per rules.
+     * @param warmupIterations - The number of warm-up transformations, 0 to only resolve the transformation.
+     * @throws TransformerException - If the transformation is invalid, as a {@link MappingValidationException} listing every problem, or a warm-up transformation fails.
+     */
+    public void prepare(Class<?> sourceClass, Class<?> transformationClass, Rulebook rules, int warmupIterations) throws TransformerException {
+        validate(sourceClass, transformationClass, rules);
+        TransformMapper<Object, ?> mapper = resolve(sourceClass, transformationClass, rules);
+        if(mapper instanceof PlanMapper && this.strategy == TransformStrategy.GENERATED) {
+            ((PlanMapper<?>) mapper).plan.generate();
+        }
+        if(warmupIterations <= 0) {
+            return;
+        }
+        Constructor<?> constructor;
+        try {
+            constructor = sourceClass.getDeclaredConstructor();
+            constructor.setAccessible(true);
+        } catch(NoSuchMethodException | RuntimeException ex) {
+            return;
+        }
+        for(int i = 0; i < warmupIterations; i++) {
+            Object instance;
+            try {
+                instance = constructor.newInstance();
+            } catch(ReflectiveOperationException ex) {
+                throw new TransformerException("Could not create a warm-up instance of " + sourceClass.getSimpleName(), ex);
+            }
+            mapper.transform(instance);
+        }
+    }
+
+    /**
+     * Prepares the transformation of every class into each of the targets declared on its @Transformable annotation.
+     *
+     * @param sourceClasses - The classes of the objects to transform, such as the classes returned by {@link Transformer#discover(ClassLoader, String...)}.
+     * @param rules - Rules to apply to the transformations, the default rules when null.
+     * @param warmupIterations - The number of warm-up transformations per pair of classes, 0 to only resolve the transformations.
+     * @return int - The number of transformations prepared.
+     * @throws TransformerException - If a class is not marked with @Transformable or a transformation is invalid.
+     */
+    public int prepareAll(Collection<Class<?>> sourceClasses, Rulebook rules, int warmupIterations) throws TransformerException {
+        int prepared = 0;
+        for(Class<?> sourceClass : sourceClasses) {
+            checkIfTransformable(sourceClass);
+            for(Class<?> target : ClassMetadata.of(sourceClass).getTargetClasses()) {
+                prepare(sourceClass, target, rules, warmupIterations);
+                prepared++;
+            }
+        }
+        return prepared;
+    }
+
+    /**
+     * Checks a transformation without transforming anything, reporting every problem found instead of stopping at the first.
+     * The source class must be marked with @Transformable, the target class must be instantiable and its copied fields writable,
+     * the copied fields must have compatible types, identity fields must exist on the declared type of their field
+     * and composed fields must resolve to transformations that are valid themselves.
+     * Problems that depend on the runtime class of a value, such as a field declared as an interface, are only found when transforming.
+     *
+     * @param sourceClass - The class of the objects to transform.
+     * @param transformationClass - The class to transform the objects into.
+     * @param rules - Rules to apply to the transformation, the default rules when null.
+     * @throws MappingValidationException - If the transformation has problems, all of which are listed by the exception.
+     */
+    public void validate(Class<?> sourceClass, Class<?> transformationClass, Rulebook rules) throws MappingValidationException {
+        Rulebook appliedRules = Objects.isNull(rules) ? this.defaultRules : rules;
+        List<String> problems = MappingValidator.validate(sourceClass, transformationClass, snapshot(appliedRules));
+        if(!problems.isEmpty()) {
+            throw new MappingValidationException(sourceClass, transformationClass, problems);
+        }
+    }
+
+    private void checkIfTransformable(Class<?> clazz) throws TransformerException {
+        if(!ClassMetadata.of(clazz).isTransformable())
+        {
+            throw this.stackTraces ? new NotTransformableException(clazz, true) : NOT_TRANSFORMABLE.get(clazz);
+        }
+    }
+
+    /**
+     * Wraps a failure to transform an object, without its stack trace unless the engine captures them.
+     */
+    TransformerException failure(String message, Throwable cause) {
+        return new TransformerException(message, cause, this.stackTraces);
+    }
+
+    /**
+     * Reports the failure of a top level transformation as a JFR event, once however many levels of the transformation it went through.
+     */
+    static TransformerException reported(TransformerException ex) {
+        TransformFailureEvent.emit(ex);
+        return ex;
+    }
+
+    /**
+     * Takes the snapshot of the rules applied to a transformation and every transformation it reaches.
+     */
+    static CompiledRulebook snapshot(Rulebook rules) {
+        return Objects.isNull(rules) ? CompiledRulebook.EMPTY : rules.freeze();
+    }
+
+    /**
+     * Resolves a top level transformation against a new snapshot of its rules, reporting the failure to resolve it to the metrics and as an event.
+     */
+    <T> TransformMapper<Object, T> resolve(Class<?> toBeTransformedClass, Class<T> clazz, Rulebook rules) throws TransformerException {
+        Rulebook appliedRules = Objects.isNull(rules) ? this.defaultRules : rules;
+        try {
+            return resolveNested(toBeTransformedClass, clazz, appliedRules, snapshot(appliedRules));
+        } catch(TransformerException ex) {
+            if(this.metrics.isEnabled()) {
+                this.metrics.failed(toBeTransformedClass, clazz, ex);
+            }
+            throw reported(ex);
+        }
+    }
+
+    /**
+     * Resolves a transformation reached from another one against the snapshot of the rules of that transformation,
+     * whose failure is reported by the transformation that reached it.
+     */
+    <T> TransformMapper<Object, T> resolveNested(Class<?> toBeTransformedClass, Class<T> clazz, Rulebook rules, CompiledRulebook compiledRules) throws TransformerException {
+        checkIfTransformable(toBeTransformedClass);
+
+        // Mappers generated at compile time only cover transformations without rules.
+        if(compiledRules.isEmpty()) {
+            TransformMapper<Object, T> mapper = MapperRegistry.find(toBeTransformedClass, clazz);
+            if(!Objects.isNull(mapper)) {
+                return this.metrics.isEnabled() || TRANSFORM_EVENT.isEnabled() || FAILURE_EVENT.isEnabled() ? new MeasuredMapper<T>(mapper, this.metrics) : mapper;
+            }
+        }
+
+        return planMapper(toBeTransformedClass, clazz, rules, compiledRules);
+    }
+
+    /**
+     * Resolves the compiled plan of a top level transformation, ignoring mappers generated at compile time since those always create their targets.
+     */
+    <T> PlanMapper<T> resolvePlan(Class<?> toBeTransformedClass, Class<T> clazz, Rulebook rules) throws TransformerException {
+        Rulebook appliedRules = Objects.isNull(rules) ? this.defaultRules : rules;
+        try {
+            return resolveNestedPlan(toBeTransformedClass, clazz, appliedRules, snapshot(appliedRules));
+        } catch(TransformerException ex) {
+            if(this.metrics.isEnabled()) {
+                this.metrics.failed(toBeTransformedClass, clazz, ex);
+            }
+            throw reported(ex);
+        }
+    }
+
+    /**
+     * Resolves the compiled plan of a transformation reached from another one, against the snapshot of the rules of that transformation.
+     */
+    <T> PlanMapper<T> resolveNestedPlan(Class<?> toBeTransformedClass, Class<T> clazz, Rulebook rules, CompiledRulebook compiledRules) throws TransformerException {
+        checkIfTransformable(toBeTransformedClass);
+        return planMapper(toBeTransformedClass, clazz, rules, compiledRules);
+    }
+
+    private <T> PlanMapper<T> planMapper(Class<?> toBeTransformedClass, Class<T> clazz, Rulebook rules, CompiledRulebook compiledRules) throws TransformerException {
+        try {
+            return new PlanMapper<T>(this, this.plans.lookupCompiled(toBeTransformedClass, clazz, compiledRules, this.metrics, this.stackTraces), rules);
+        } catch(TransformerException ex) {
+            throw failure("Could not transform " + toBeTransformedClass.getSimpleName(), ex);
+        }
+    }
+
+    private <T> BatchResult<T> transformEach(Iterator<?> elements, int expectedSize, Class<T> clazz, Rulebook rules, FailurePolicy policy) throws TransformerException {
+        List<T> results = new ArrayList<T>(expectedSize);
+        List<BatchFailure> failures = new ArrayList<BatchFailure>();
+        // Resolved mappers, or the exception resolving them, per class of the elements.
+        Map<Class<?>, Object> resolved = new IdentityHashMap<Class<?>, Object>();
+        Class<?> lastClass = null;
+        TransformMapper<Object, T> lastMapper = null;
+
+        for(int index = 0; elements.hasNext(); index++) {
+            Object element = elements.next();
+            if(Objects.isNull(element)) {
+                results.add(null);
+                continue;
+            }
+            try {
+                Class<?> elementClass = element.getClass();
+                if(elementClass != lastClass) {
+                    lastMapper = resolveForBatch(resolved, elementClass, clazz, rules);
+                    lastClass = elementClass;
+                }
+                results.add(lastMapper.transform(element));
+            } catch(TransformerException ex) {
+                lastClass = null;
+                if(policy == FailurePolicy.FAIL_FAST) {
+                    throw failure("Could not transform element " + index + " of the batch", ex);
+                } else if(policy == FailurePolicy.COLLECT) {
+                    failures.add(new BatchFailure(index, element, ex));
+                }
+            }
+        }
+        return new BatchResult<T>(results, failures);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> TransformMapper<Object, T> resolveForBatch(Map<Class<?>, Object> resolved, Class<?> elementClass, Class<T> clazz, Rulebook rules) throws TransformerException {
+        Object mapper = resolved.get(elementClass);
+        if(Objects.isNull(mapper)) {
+            try {
+                mapper = resolve(elementClass, clazz, rules);
+            } catch(TransformerException ex) {
+                mapper = ex;
+            }
+            resolved.put(elementClass, mapper);
+        }
+        if(mapper instanceof TransformerException) {
+            throw (TransformerException) mapper;
+        }
+        return (TransformMapper<Object, T>) mapper;
+    }
+
+    /**
+     * Builds a {@link TransformerEngine}.
+     */
+    public static final class Builder {
+        private TransformStrategy strategy = TransformStrategy.HANDLES;
+        private int cacheSize = PlanCache.UNBOUNDED;
+        private EvictionPolicy evictionPolicy = EvictionPolicy.LRU;
+        private Rulebook defaultRules;
+        private TransformerMetrics metrics = NoopTransformerMetrics.INSTANCE;
+        private boolean stackTraces = true;
+        private PlanCache plans;
+
+        private Builder() {}
+
+        /**
+         * Sets the strategy used to execute transformations.
+         *
+         * @param transformStrategy - The strategy to use, {@link TransformStrategy#HANDLES} by default.
+         * @return Builder - This builder.
+         */
+        public Builder strategy(TransformStrategy transformStrategy) {
+            this.strategy = Objects.requireNonNull(transformStrategy);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of compiled transform plans kept by the engine.
+         *
+         * @param size - The maximum number of plans, {@link PlanCache#UNBOUNDED} by default.
+         * @return Builder - This builder.
+         */
+        public Builder cacheSize(int size) {
+            if (size <= 0) {
+                throw new IllegalArgumentException("The cache size must be positive.");
+            }
+            this.cacheSize = size;
+            return this;
+        }
+
+        /**
+         * Sets how the engine chooses the plan evicted when its cache is full.
+         *
+         * @param policy - The eviction policy, {@link EvictionPolicy#LRU} by default.
+         * @return Builder - This builder.
+         */
+        public Builder evictionPolicy(EvictionPolicy policy) {
+            this.evictionPolicy = Objects.requireNonNull(policy);
+            return this;
+        }
+
+        /**
+         * Sets the rules applied to transformations called without rules.
+         *
+         * @param rules - The default rules, may be null.
+         * @return Builder - This builder.
+         */
+        public Builder defaultRules(Rulebook rules) {
+            this.defaultRules = rules;
+            return this;
+        }
+
+        /**
+         * Sets the metrics receiving the measurements of the transformations.
+         *
+         * @param transformerMetrics - The metrics to use, {@link NoopTransformerMetrics#INSTANCE} by default.
+         * @return Builder - This builder.
+         */
+        public Builder metrics(TransformerMetrics transformerMetrics) {
+            this.metrics = Objects.requireNonNull(transformerMetrics);
+            return this;
+        }
+
+        /**
+         * Sets if the exceptions reporting transformation failures capture their stack traces. Without them a failing transformation
+         * costs little more than a successful one, which matters when invalid input fails often, at the cost of harder debugging.
+         *
+         * @param captureStackTraces - False to report failures without stack traces, true by default.
+         * @return Builder - This builder.
+         */
+        public Builder captureStackTraces(boolean captureStackTraces) {
+            this.stackTraces = captureStackTraces;
+            return this;
+        }
+
+        /**
+         * Uses an existing plan cache instead of creating one, the cache size and eviction policy are ignored.
+         */
+        Builder planCache(PlanCache planCache) {
+            this.plans = planCache;
+            return this;
+        }
+
+        /**
+         * Creates the engine.
+         *
+         * @return TransformerEngine - The new engine, with an empty plan cache.
+         */
+        public TransformerEngine build() {
+            PlanCache planCache = Objects.isNull(this.plans) ? new PlanCache(this.cacheSize, this.evictionPolicy) : this.plans;
+            return new TransformerEngine(this.strategy, planCache, this.defaultRules, this.metrics, this.stackTraces);
+        }
+    }
+
+    static final class PlanMapper<T> implements TransformMapper<Object, T> {
+        private final TransformerEngine engine;
+        private final TransformPlan<T> plan;
+        private final Rulebook rules;
+
+        private PlanMapper(TransformerEngine engine, TransformPlan<T> plan, Rulebook rules) {
+            this.engine = engine;
+            this.plan = plan;
+            this.rules = rules;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Class<Object> getSourceClass() {
+            return (Class<Object>) this.plan.getSourceClass();
+        }
+
+        @Override
+        public Class<T> getTargetClass() {
+            return this.plan.getTargetClass();
+        }
+
+        @Override
+        public T transform(Object object) throws TransformerException {
+            return measure(object, null);
+        }
+
+        T transform(Object object, TransformContext context) throws TransformerException {
+            if (this.plan.isConstructed()) {
+                context.enter(object, this.plan.getTargetClass());
+                T constructedObject;
+                try {
+                    constructedObject = this.plan.construct(object, context);
+                } catch(Exception ex) {
+                    throw this.engine.failure("Could not transform " + object.getClass().getSimpleName(), ex);
+                }
+                context.register(object, this.plan.getTargetClass(), constructedObject);
+                return constructedObject;
+            }
+
+            T transformedObject;
+            try {
+                transformedObject = this.plan.newInstance();
+            } catch(TransformerException ex) {
+                throw this.engine.failure("Could not transform " + object.getClass().getSimpleName(), ex);
+            }
+            return populate(object, transformedObject, context);
+        }
+
+        T transformInto(Object object, T target) throws TransformerException {
+            checkUpdatable();
+            return measure(object, target);
+        }
+
+        boolean isConstructed() {
+            return this.plan.isConstructed();
+        }
+
+        /**
+         * Rejects existing targets built through their constructor, whose fields are only set when they are created.
+         */
+        private void checkUpdatable() throws TransformerException {
+            if (this.plan.isConstructed()) {
+                throw new TransformerException("Class " + this.plan.getTargetClass().getSimpleName() + " is built through its constructor and cannot be updated.");
+            }
+        }
+
+        /**
+         * Updates a target with the fields that changed since the previous object, recording the transformation in the metrics and as a JFR event.
+         */
+        FieldChanges transformChanges(Object previous, Object current, T target) throws TransformerException {
+            checkUpdatable();
+            TransformerMetrics recorder = this.engine.metrics;
+            TransformContext context = new TransformContext(this.engine, this.rules, this.plan.getCompiledRules());
+            TransformEvent event = new TransformEvent();
+            event.begin();
+            long start = recorder.isEnabled() ? System.nanoTime() : 0L;
+            FieldChanges changes = null;
+            try {
+                changes = applyChanges(previous, current, target, context);
+                if (recorder.isEnabled()) {
+                    recorder.transformed(current.getClass(), this.plan.getTargetClass(), System.nanoTime() - start, changes.getChangedCount());
+                }
+                return changes;
+            } catch(TransformerException ex) {
+                if (recorder.isEnabled()) {
+                    recorder.failed(current.getClass(), this.plan.getTargetClass(), ex);
+                }
+                throw reported(ex);
+            } finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.set(current.getClass(), this.plan.getTargetClass(), Objects.isNull(changes) ? 0 : changes.getChangedCount(), context.getMaxDepth());
+                    event.commit();
+                }
+            }
+        }
+
+        FieldChanges applyChanges(Object previous, Object current, T target, TransformContext context) throws TransformerException {
+            try {
+                context.register(current, this.plan.getTargetClass(), target);
+                return new FieldChanges(this.plan.getFieldNames(), this.plan.applyChanges(previous, current, target, context));
+            } catch(Exception ex) {
+                throw this.engine.failure("Could not transform " + current.getClass().getSimpleName(), ex);
+            }
+        }
+
+        /**
+         * Transforms an object into a new instance, or into the target if there is one, recording the transformation in the metrics and as a JFR event.
+         */
+        private T measure(Object object, T target) throws TransformerException {
+            TransformerMetrics recorder = this.engine.metrics;
+            TransformContext context = new TransformContext(this.engine, this.rules, this.plan.getCompiledRules());
+            TransformEvent event = new TransformEvent();
+            event.begin();
+            long start = recorder.isEnabled() ? System.nanoTime() : 0L;
+            try {
+                T transformedObject = Objects.isNull(target) ? transform(object, context) : populate(object, target, context);
+                if (recorder.isEnabled()) {
+                    recorder.transformed(object.getClass(), this.plan.getTargetClass(), System.nanoTime() - start, this.plan.getFieldCount());
+                }
+                return transformedObject;
+            } catch(TransformerException ex) {
+                if (recorder.isEnabled()) {
+                    recorder.failed(object.getClass(), this.plan.getTargetClass(), ex);
+                }
+                throw reported(ex);
+            } finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.set(object.getClass(), this.plan.getTargetClass(), this.plan.getFieldCount(), context.getMaxDepth());
+                    event.commit();
+                }
+            }
+        }
+
+        private T populate(Object object, T target, TransformContext context) throws TransformerException {
+            try {
+                context.register(object, this.plan.getTargetClass(), target);
+                switch (this.engine.strategy) {
+                    case GENERATED:
+                        this.plan.applyGenerated(object, target, context);
+                        break;
+                    case REFLECTIVE:
+                        this.plan.applyReflective(object, target, context);
+                        break;
+                    default:
+                        this.plan.apply(object, target, context);
+                }
+                return target;
+            } catch(Exception ex) {
+                throw this.engine.failure("Could not transform " + object.getClass().getSimpleName(), ex);
+            }
+        }
+    }
+
+    /**
+     * Measures a mapper generated at compile time, only used while metrics or the JFR events of the transformer are enabled.
+     */
+    private static final class MeasuredMapper<T> implements TransformMapper<Object, T> {
+        private final TransformMapper<Object, T> mapper;
+        private final TransformerMetrics recorder;
+
+        private MeasuredMapper(TransformMapper<Object, T> mapper, TransformerMetrics recorder) {
+            this.mapper = mapper;
+            this.recorder = recorder;
+        }
+
+        @Override
+        public Class<Object> getSourceClass() {
+            return this.mapper.getSourceClass();
+        }
+
+        @Override
+        public Class<T> getTargetClass() {
+            return this.mapper.getTargetClass();
+        }
+
+        @Override
+        public T transform(Object object) throws TransformerException {
+            TransformEvent event = new TransformEvent();
+            event.begin();
+            long start = System.nanoTime();
+            try {
+                T transformedObject = this.mapper.transform(object);
+                this.recorder.transformed(object.getClass(), this.mapper.getTargetClass(), System.nanoTime() - start, 0);
+                return transformedObject;
+            } catch(TransformerException ex) {
+                this.recorder.failed(object.getClass(), this.mapper.getTargetClass(), ex);
+                throw reported(ex);
+            } finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.set(object.getClass(), this.mapper.getTargetClass(), 0, 0);
+                    event.commit();
+                }
+            }
+        }
+    }
+}
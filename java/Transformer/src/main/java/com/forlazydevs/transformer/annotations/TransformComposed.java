@@ -8,5 +8,13 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.FIELD)
 public @interface TransformComposed {
-    
+
+    /**
+     * Defers the transformation of the field until the transformed value is first used.
+     * Only applies when the field of the new instance has an interface type, which then receives a proxy transforming the value on its first method call.
+     * Lazily transformed values are transformed on their own and do not share instances with the rest of the transformation.
+     *
+     * @return boolean - A flag representing if the field is transformed lazily.
+     */
+    public boolean lazy() default false;
 }
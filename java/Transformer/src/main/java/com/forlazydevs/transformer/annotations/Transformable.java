@@ -8,5 +8,12 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.TYPE)
 public @interface Transformable {
-    
+
+    /**
+     * The classes instances of the annotated class are transformed into.
+     * When the transformer-processor annotation processor is on the compile path, a mapper is generated at compile time for every declared target.
+     *
+     * @return Class&lt;?&gt;[] - The declared target classes.
+     */
+    public Class<?>[] targets() default {};
 }
@@ -0,0 +1,46 @@
+package com.forlazydevs.transformer.batch;
+
+import com.forlazydevs.transformer.exceptions.TransformerException;
+
+/**
+ * An element of a batch transformation that could not be transformed.
+ */
+public final class BatchFailure {
+
+    private final int index;
+    private final Object element;
+    private final TransformerException cause;
+
+    public BatchFailure(int index, Object element, TransformerException cause) {
+        this.index = index;
+        this.element = element;
+        this.cause = cause;
+    }
+
+    /**
+     * Retrieves the position of the element in the batch.
+     *
+     * @return int - The index of the element.
+     */
+    public int getIndex() {
+        return this.index;
+    }
+
+    /**
+     * Retrieves the element that could not be transformed.
+     *
+     * @return Object - The element.
+     */
+    public Object getElement() {
+        return this.element;
+    }
+
+    /**
+     * Retrieves the reason the element could not be transformed.
+     *
+     * @return TransformerException - The exception thrown transforming the element.
+     */
+    public TransformerException getCause() {
+        return this.cause;
+    }
+}
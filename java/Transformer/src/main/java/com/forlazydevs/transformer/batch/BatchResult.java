@@ -0,0 +1,44 @@
+package com.forlazydevs.transformer.batch;
+
+import java.util.List;
+
+/**
+ * The outcome of a batch transformation.
+ */
+public final class BatchResult<T> {
+
+    private final List<T> results;
+    private final List<BatchFailure> failures;
+
+    public BatchResult(List<T> results, List<BatchFailure> failures) {
+        this.results = results;
+        this.failures = failures;
+    }
+
+    /**
+     * Retrieves the transformed elements, in the order of the batch.
+     *
+     * @return List&lt;T&gt; - The transformed elements.
+     */
+    public List<T> getResults() {
+        return this.results;
+    }
+
+    /**
+     * Retrieves the elements that could not be transformed. Only recorded with {@link FailurePolicy#COLLECT}.
+     *
+     * @return List&lt;BatchFailure&gt; - The failed elements.
+     */
+    public List<BatchFailure> getFailures() {
+        return this.failures;
+    }
+
+    /**
+     * Determines if any element could not be transformed.
+     *
+     * @return boolean - A flag representing if failures were recorded.
+     */
+    public boolean hasFailures() {
+        return !this.failures.isEmpty();
+    }
+}
@@ -0,0 +1,22 @@
+package com.forlazydevs.transformer.batch;
+
+/**
+ * How a batch transformation reacts to elements that cannot be transformed.
+ */
+public enum FailurePolicy {
+
+    /**
+     * Stops at the first element that cannot be transformed and throws its exception.
+     */
+    FAIL_FAST,
+
+    /**
+     * Leaves elements that cannot be transformed out of the results.
+     */
+    SKIP,
+
+    /**
+     * Leaves elements that cannot be transformed out of the results and records a {@link BatchFailure} for each of them.
+     */
+    COLLECT
+}
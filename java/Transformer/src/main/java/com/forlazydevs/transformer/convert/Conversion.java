@@ -0,0 +1,69 @@
+package com.forlazydevs.transformer.convert;
+
+import java.util.Objects;
+
+/**
+ * A pair of field types a {@link TypeConverter} converts between. Primitive types are stored as their wrapper,
+ * so a converter registered for Integer also converts int fields.
+ */
+public final class Conversion {
+
+    private final Class<?> sourceType;
+    private final Class<?> targetType;
+
+    private Conversion(Class<?> sourceType, Class<?> targetType) {
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+    }
+
+    /**
+     * Creates the conversion between two types.
+     *
+     * @param sourceType - The type of the field of the object to transform.
+     * @param targetType - The type of the field of the transformed object.
+     * @return Conversion - The conversion, with primitive types replaced by their wrapper.
+     */
+    public static Conversion of(Class<?> sourceType, Class<?> targetType) {
+        return new Conversion(ConverterRegistry.wrap(Objects.requireNonNull(sourceType)), ConverterRegistry.wrap(Objects.requireNonNull(targetType)));
+    }
+
+    /**
+     * Retrieves the type converted from.
+     *
+     * @return Class&lt;?&gt; - The source type, never primitive.
+     */
+    public Class<?> getSourceType() {
+        return this.sourceType;
+    }
+
+    /**
+     * Retrieves the type converted into.
+     *
+     * @return Class&lt;?&gt; - The target type, never primitive.
+     */
+    public Class<?> getTargetType() {
+        return this.targetType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Conversion)) {
+            return false;
+        }
+        Conversion other = (Conversion) o;
+        return this.sourceType == other.sourceType && this.targetType == other.targetType;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * this.sourceType.hashCode() + this.targetType.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return this.sourceType.getSimpleName() + " -> " + this.targetType.getSimpleName();
+    }
+}
@@ -0,0 +1,218 @@
+package com.forlazydevs.transformer.convert;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.forlazydevs.transformer.rulebook.CompiledRulebook;
+
+/**
+ * Finds the conversion between the types of a field and the field it is copied into, as a method handle resolved once when a transformation is compiled.
+ * Converters registered on the rules are used first, for any pair of types. Built-in conversions are only used between types that cannot be assigned:
+ * <ul>
+ * <li>numbers into numbers of any other primitive or wrapper type, narrowing with the semantics of a Java cast;</li>
+ * <li>Strings into numbers, booleans, BigDecimal, BigInteger and enums, and those into Strings;</li>
+ * <li>Instant and LocalDateTime into epoch milliseconds, LocalDate into epoch days, and back. LocalDateTime is taken at UTC.</li>
+ * </ul>
+ * When neither applies a registered converter may be chained with a built-in conversion, before or after it.
+ * Conversions between primitive types never box their values, null values are copied as null without being converted.
+ */
+public final class ConverterRegistry {
+
+    private static final Set<Class<?>> NUMERIC = Set.of(byte.class, short.class, int.class, long.class, float.class, double.class);
+    private static final Set<Class<?>> INTEGRAL = Set.of(byte.class, short.class, int.class, long.class);
+    private static final Map<Class<?>, Class<?>> WRAPPERS = Map.of(
+        boolean.class, Boolean.class, byte.class, Byte.class, char.class, Character.class, short.class, Short.class,
+        int.class, Integer.class, long.class, Long.class, float.class, Float.class, double.class, Double.class);
+    private static final Map<Class<?>, Class<?>> PRIMITIVES = new HashMap<Class<?>, Class<?>>();
+    private static final Map<Class<?>, MethodHandle> PARSERS = new HashMap<Class<?>, MethodHandle>();
+    private static final Map<Class<?>, MethodHandle> TO_STRING = new HashMap<Class<?>, MethodHandle>();
+    private static final Map<Class<?>, MethodHandle> TO_EPOCH = new HashMap<Class<?>, MethodHandle>();
+    private static final Map<Class<?>, MethodHandle> FROM_EPOCH = new HashMap<Class<?>, MethodHandle>();
+    private static final MethodHandle IS_NULL;
+    private static final MethodHandle CONVERT;
+    private static final MethodHandle ENUM_VALUE_OF;
+    private static final MethodHandle ENUM_NAME;
+
+    static {
+        for (Map.Entry<Class<?>, Class<?>> wrapper : WRAPPERS.entrySet()) {
+            PRIMITIVES.put(wrapper.getValue(), wrapper.getKey());
+        }
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            PARSERS.put(boolean.class, lookup.findStatic(Boolean.class, "parseBoolean", MethodType.methodType(boolean.class, String.class)));
+            PARSERS.put(byte.class, lookup.findStatic(Byte.class, "parseByte", MethodType.methodType(byte.class, String.class)));
+            PARSERS.put(short.class, lookup.findStatic(Short.class, "parseShort", MethodType.methodType(short.class, String.class)));
+            PARSERS.put(int.class, lookup.findStatic(Integer.class, "parseInt", MethodType.methodType(int.class, String.class)));
+            PARSERS.put(long.class, lookup.findStatic(Long.class, "parseLong", MethodType.methodType(long.class, String.class)));
+            PARSERS.put(float.class, lookup.findStatic(Float.class, "parseFloat", MethodType.methodType(float.class, String.class)));
+            PARSERS.put(double.class, lookup.findStatic(Double.class, "parseDouble", MethodType.methodType(double.class, String.class)));
+            PARSERS.put(BigDecimal.class, lookup.findConstructor(BigDecimal.class, MethodType.methodType(void.class, String.class)));
+            PARSERS.put(BigInteger.class, lookup.findConstructor(BigInteger.class, MethodType.methodType(void.class, String.class)));
+
+            MethodHandle intToString = lookup.findStatic(String.class, "valueOf", MethodType.methodType(String.class, int.class));
+            TO_STRING.put(boolean.class, lookup.findStatic(String.class, "valueOf", MethodType.methodType(String.class, boolean.class)));
+            TO_STRING.put(byte.class, intToString.asType(MethodType.methodType(String.class, byte.class)));
+            TO_STRING.put(short.class, intToString.asType(MethodType.methodType(String.class, short.class)));
+            TO_STRING.put(int.class, intToString);
+            TO_STRING.put(long.class, lookup.findStatic(String.class, "valueOf", MethodType.methodType(String.class, long.class)));
+            TO_STRING.put(float.class, lookup.findStatic(String.class, "valueOf", MethodType.methodType(String.class, float.class)));
+            TO_STRING.put(double.class, lookup.findStatic(String.class, "valueOf", MethodType.methodType(String.class, double.class)));
+            TO_STRING.put(BigDecimal.class, lookup.findVirtual(BigDecimal.class, "toString", MethodType.methodType(String.class)));
+            TO_STRING.put(BigInteger.class, lookup.findVirtual(BigInteger.class, "toString", MethodType.methodType(String.class)));
+
+            TO_EPOCH.put(Instant.class, lookup.findVirtual(Instant.class, "toEpochMilli", MethodType.methodType(long.class)));
+            TO_EPOCH.put(LocalDate.class, lookup.findVirtual(LocalDate.class, "toEpochDay", MethodType.methodType(long.class)));
+            TO_EPOCH.put(LocalDateTime.class, lookup.findStatic(ConverterRegistry.class, "toEpochMilli", MethodType.methodType(long.class, LocalDateTime.class)));
+            FROM_EPOCH.put(Instant.class, lookup.findStatic(Instant.class, "ofEpochMilli", MethodType.methodType(Instant.class, long.class)));
+            FROM_EPOCH.put(LocalDate.class, lookup.findStatic(LocalDate.class, "ofEpochDay", MethodType.methodType(LocalDate.class, long.class)));
+            FROM_EPOCH.put(LocalDateTime.class, lookup.findStatic(ConverterRegistry.class, "ofEpochMilli", MethodType.methodType(LocalDateTime.class, long.class)));
+
+            IS_NULL = lookup.findStatic(Objects.class, "isNull", MethodType.methodType(boolean.class, Object.class));
+            CONVERT = lookup.findVirtual(TypeConverter.class, "convert", MethodType.methodType(Object.class, Object.class));
+            ENUM_VALUE_OF = lookup.findStatic(Enum.class, "valueOf", MethodType.methodType(Enum.class, Class.class, String.class));
+            ENUM_NAME = lookup.findVirtual(Enum.class, "name", MethodType.methodType(String.class));
+        } catch (ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    private ConverterRegistry() {}
+
+    /**
+     * Finds the conversion of values of the source type into the target type.
+     *
+     * @param sourceType - The type of the field of the object to transform.
+     * @param targetType - The type of the field of the transformed object.
+     * @param compiledRules - The rules holding the registered converters.
+     * @return MethodHandle - A handle of type (sourceType)targetType, null if the value is copied as it is or no conversion is known.
+     */
+    public static MethodHandle find(Class<?> sourceType, Class<?> targetType, CompiledRulebook compiledRules) {
+        TypeConverter<?, ?> converter = compiledRules.getConverter(sourceType, targetType);
+        if (!Objects.isNull(converter)) {
+            return adapt(CONVERT.bindTo(converter), sourceType, targetType);
+        }
+        if (!needsConversion(sourceType, targetType)) {
+            return null;
+        }
+        MethodHandle builtIn = builtIn(sourceType, targetType);
+        return Objects.isNull(builtIn) ? chain(sourceType, targetType, compiledRules) : builtIn;
+    }
+
+    /**
+     * Determines if values of the source type cannot be copied as they are into a field of the target type.
+     * Reference types that are related, or where either is an interface, may hold compatible values and are copied as they are.
+     *
+     * @param sourceType - The type of the field of the object to transform.
+     * @param targetType - The type of the field of the transformed object.
+     * @return boolean - A flag representing if values need a conversion.
+     */
+    public static boolean needsConversion(Class<?> sourceType, Class<?> targetType) {
+        if (sourceType.isPrimitive() || targetType.isPrimitive()) {
+            try {
+                MethodHandles.identity(sourceType).asType(MethodType.methodType(targetType, sourceType));
+                return false;
+            } catch (WrongMethodTypeException ex) {
+                return true;
+            }
+        }
+        return !targetType.isAssignableFrom(sourceType) && !sourceType.isAssignableFrom(targetType) && !sourceType.isInterface() && !targetType.isInterface();
+    }
+
+    static Class<?> wrap(Class<?> type) {
+        return WRAPPERS.getOrDefault(type, type);
+    }
+
+    private static Class<?> unwrap(Class<?> type) {
+        return PRIMITIVES.getOrDefault(type, type);
+    }
+
+    /**
+     * Finds a built-in conversion and adapts it to the exact types, or returns null.
+     */
+    private static MethodHandle builtIn(Class<?> sourceType, Class<?> targetType) {
+        Class<?> source = unwrap(sourceType);
+        Class<?> target = unwrap(targetType);
+        MethodHandle conversion = null;
+        if (NUMERIC.contains(source) && NUMERIC.contains(target)) {
+            conversion = MethodHandles.explicitCastArguments(MethodHandles.identity(source), MethodType.methodType(target, source));
+        } else if (source == String.class && target.isEnum()) {
+            conversion = MethodHandles.insertArguments(ENUM_VALUE_OF, 0, target);
+        } else if (source == String.class) {
+            conversion = PARSERS.get(target);
+        } else if (target == String.class && source.isEnum()) {
+            conversion = ENUM_NAME;
+        } else if (target == String.class) {
+            conversion = TO_STRING.get(source);
+        } else if (target == long.class) {
+            conversion = TO_EPOCH.get(source);
+        } else if (INTEGRAL.contains(source)) {
+            conversion = FROM_EPOCH.get(target);
+        }
+        return Objects.isNull(conversion) ? null : adapt(conversion, sourceType, targetType);
+    }
+
+    /**
+     * Chains a registered converter with a built-in conversion, the first registered converter completing a chain is used.
+     */
+    private static MethodHandle chain(Class<?> sourceType, Class<?> targetType, CompiledRulebook compiledRules) {
+        Conversion wanted = Conversion.of(sourceType, targetType);
+        for (Map.Entry<Conversion, TypeConverter<?, ?>> registered : compiledRules.getConverters().entrySet()) {
+            Conversion conversion = registered.getKey();
+            MethodHandle converter = CONVERT.bindTo(registered.getValue());
+            if (conversion.getSourceType() == wanted.getSourceType()) {
+                MethodHandle after = builtIn(conversion.getTargetType(), targetType);
+                MethodHandle before = adapt(converter, sourceType, conversion.getTargetType());
+                if (!Objects.isNull(after) && !Objects.isNull(before)) {
+                    return MethodHandles.filterReturnValue(before, after);
+                }
+            }
+            if (conversion.getTargetType() == wanted.getTargetType()) {
+                MethodHandle before = builtIn(sourceType, conversion.getSourceType());
+                MethodHandle after = adapt(converter, conversion.getSourceType(), targetType);
+                if (!Objects.isNull(after) && !Objects.isNull(before)) {
+                    return MethodHandles.filterReturnValue(before, after);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adapts a conversion to the exact types, passing null source values through as null. Returns null if the types cannot be adapted.
+     */
+    private static MethodHandle adapt(MethodHandle conversion, Class<?> sourceType, Class<?> targetType) {
+        try {
+            if (sourceType.isPrimitive()) {
+                return conversion.asType(MethodType.methodType(targetType, sourceType));
+            }
+            // Converted as a reference first so null can be returned, a null copied into a primitive field fails when it is unboxed.
+            Class<?> resultType = wrap(targetType);
+            MethodHandle nonNull = conversion.asType(MethodType.methodType(resultType, sourceType));
+            MethodHandle isNull = IS_NULL.asType(MethodType.methodType(boolean.class, sourceType));
+            MethodHandle returnNull = MethodHandles.dropArguments(MethodHandles.constant(resultType, null), 0, sourceType);
+            return MethodHandles.guardWithTest(isNull, returnNull, nonNull).asType(MethodType.methodType(targetType, sourceType));
+        } catch (WrongMethodTypeException ex) {
+            return null;
+        }
+    }
+
+    private static long toEpochMilli(LocalDateTime value) {
+        return value.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime ofEpochMilli(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneOffset.UTC);
+    }
+}
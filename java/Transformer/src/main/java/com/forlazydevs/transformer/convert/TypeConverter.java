@@ -0,0 +1,18 @@
+package com.forlazydevs.transformer.convert;
+
+/**
+ * Converts the value of a field into the type of the field it is copied into, registered on a Rulebook with
+ * {@link com.forlazydevs.transformer.rulebook.Rulebook#addConverter(Class, Class, TypeConverter)}.
+ * Converters are never called with null, null values are copied as null.
+ */
+@FunctionalInterface
+public interface TypeConverter<S, T> {
+
+    /**
+     * Converts a value.
+     *
+     * @param value - The value of the field of the object to transform, never null.
+     * @return T - The value to write into the field of the transformed object.
+     */
+    T convert(S value);
+}
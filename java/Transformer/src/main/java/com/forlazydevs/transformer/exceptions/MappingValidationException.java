@@ -0,0 +1,30 @@
+package com.forlazydevs.transformer.exceptions;
+
+import java.util.List;
+
+/**
+ * Thrown when validating a transformation finds problems, listing all of them instead of stopping at the first.
+ */
+public class MappingValidationException extends TransformerException {
+
+    private final List<String> problems;
+
+    /**
+     * @param sourceClass - The class of the objects to transform.
+     * @param targetClass - The class to transform the objects into.
+     * @param problems - The description of every problem found.
+     */
+    public MappingValidationException(Class<?> sourceClass, Class<?> targetClass, List<String> problems) {
+        super("Could not transform " + sourceClass.getSimpleName() + " into " + targetClass.getSimpleName() + ": " + String.join(" ", problems));
+        this.problems = List.copyOf(problems);
+    }
+
+    /**
+     * Retrieves the problems found by the validation.
+     *
+     * @return List&lt;String&gt; - An unmodifiable list of the description of every problem, in the order they were found.
+     */
+    public List<String> getProblems() {
+        return this.problems;
+    }
+}
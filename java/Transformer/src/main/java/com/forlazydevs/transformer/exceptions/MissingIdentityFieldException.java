@@ -0,0 +1,39 @@
+package com.forlazydevs.transformer.exceptions;
+
+/**
+ * Thrown when the value of a field annotated with @TransformIdentity does not declare the field the annotation names.
+ */
+public class MissingIdentityFieldException extends TransformerException {
+
+    private final Class<?> valueClass;
+    private final String identityFieldName;
+
+    /**
+     * @param valueClass - The class of the value missing the identity field.
+     * @param identityFieldName - The name of the identity field.
+     * @param writableStackTrace - False to skip capturing the stack trace.
+     */
+    public MissingIdentityFieldException(Class<?> valueClass, String identityFieldName, boolean writableStackTrace) {
+        super("Class " + valueClass.getSimpleName() + " has no field " + identityFieldName + " to use as identity.", null, writableStackTrace);
+        this.valueClass = valueClass;
+        this.identityFieldName = identityFieldName;
+    }
+
+    /**
+     * Retrieves the class of the value missing the identity field.
+     *
+     * @return Class&lt;?&gt; - The class of the value.
+     */
+    public Class<?> getValueClass() {
+        return this.valueClass;
+    }
+
+    /**
+     * Retrieves the name of the identity field.
+     *
+     * @return String - The field name of the @TransformIdentity annotation.
+     */
+    public String getIdentityFieldName() {
+        return this.identityFieldName;
+    }
+}
@@ -0,0 +1,27 @@
+package com.forlazydevs.transformer.exceptions;
+
+/**
+ * Thrown when a target class has neither a no-args constructor nor a constructor taking all of its fields in declaration order.
+ */
+public class NoUsableConstructorException extends TransformerException {
+
+    private final Class<?> targetClass;
+
+    /**
+     * @param targetClass - The class that cannot be instantiated.
+     * @param writableStackTrace - False to skip capturing the stack trace.
+     */
+    public NoUsableConstructorException(Class<?> targetClass, boolean writableStackTrace) {
+        super("Class " + targetClass.getSimpleName() + " has neither a no-args constructor nor a constructor taking all of its fields in declaration order.", null, writableStackTrace);
+        this.targetClass = targetClass;
+    }
+
+    /**
+     * Retrieves the class that cannot be instantiated.
+     *
+     * @return Class&lt;?&gt; - The target class.
+     */
+    public Class<?> getTargetClass() {
+        return this.targetClass;
+    }
+}
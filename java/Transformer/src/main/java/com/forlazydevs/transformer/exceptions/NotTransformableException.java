@@ -0,0 +1,27 @@
+package com.forlazydevs.transformer.exceptions;
+
+/**
+ * Thrown when an object of a class that has not been marked with @Transformable is transformed, directly or as a composed field.
+ */
+public class NotTransformableException extends TransformerException {
+
+    private final Class<?> notTransformableClass;
+
+    /**
+     * @param clazz - The class that has not been marked with @Transformable.
+     * @param writableStackTrace - False to skip capturing the stack trace.
+     */
+    public NotTransformableException(Class<?> clazz, boolean writableStackTrace) {
+        super("Class " + clazz.getSimpleName() + " has not been marked with @Transformable and will not be transformed.", null, writableStackTrace);
+        this.notTransformableClass = clazz;
+    }
+
+    /**
+     * Retrieves the class that has not been marked with @Transformable.
+     *
+     * @return Class&lt;?&gt; - The class.
+     */
+    public Class<?> getNotTransformableClass() {
+        return this.notTransformableClass;
+    }
+}
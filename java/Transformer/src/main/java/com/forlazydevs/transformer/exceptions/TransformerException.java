@@ -9,5 +9,17 @@ public class TransformerException extends Exception {
     public TransformerException(String message, Throwable err) {
         super(message, err);
     }
+
+    /**
+     * Creates an exception that may skip capturing its stack trace, for failures reported often enough that the capture dominates their cost.
+     * Exceptions without a stack trace do not record suppressed exceptions either, so a single instance can be thrown repeatedly.
+     *
+     * @param message - The detail message.
+     * @param err - The cause, may be null.
+     * @param writableStackTrace - False to skip capturing the stack trace.
+     */
+    public TransformerException(String message, Throwable err, boolean writableStackTrace) {
+        super(message, err, writableStackTrace, writableStackTrace);
+    }
     
 }
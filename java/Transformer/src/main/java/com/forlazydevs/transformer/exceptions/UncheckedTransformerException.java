@@ -0,0 +1,24 @@
+package com.forlazydevs.transformer.exceptions;
+
+/**
+ * Wraps a {@link TransformerException} thrown where checked exceptions cannot be, such as inside streams and iterators.
+ */
+public class UncheckedTransformerException extends RuntimeException {
+
+    public UncheckedTransformerException(TransformerException err) {
+        super(err.getMessage(), err);
+    }
+
+    /**
+     * @param err - The exception to wrap.
+     * @param writableStackTrace - False to skip capturing the stack trace, the wrapped exception keeps its own.
+     */
+    public UncheckedTransformerException(TransformerException err, boolean writableStackTrace) {
+        super(err.getMessage(), err, writableStackTrace, writableStackTrace);
+    }
+
+    @Override
+    public TransformerException getCause() {
+        return (TransformerException) super.getCause();
+    }
+}
@@ -0,0 +1,47 @@
+package com.forlazydevs.transformer.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JFR event spanning the compilation of a transform plan, or the generation of the bytecode mapper of a plan for the GENERATED strategy.
+ */
+@Name("com.forlazydevs.transformer.PlanCompile")
+@Label("Transform Plan Compile")
+@Category("Transformer")
+@Description("The resolution of the fields and rules of a transformation, done once per pair of classes and rules")
+@StackTrace(false)
+public final class PlanCompileEvent extends Event {
+
+    @Label("Source Class")
+    private Class<?> sourceClass;
+
+    @Label("Target Class")
+    private Class<?> targetClass;
+
+    @Label("Field Count")
+    private int fieldCount;
+
+    @Label("Generated")
+    @Description("True when the bytecode mapper of the plan was generated, false when the plan itself was compiled")
+    private boolean generated;
+
+    /**
+     * Fills the fields of the event, only called once the event should be committed.
+     *
+     * @param sourceClass - The class of the objects to transform.
+     * @param targetClass - The class to transform the objects into.
+     * @param fieldCount - The number of fields copied by the plan, -1 if the plan could not be compiled.
+     * @param generated - A flag representing if the bytecode mapper was generated.
+     */
+    public void set(Class<?> sourceClass, Class<?> targetClass, int fieldCount, boolean generated) {
+        this.sourceClass = sourceClass;
+        this.targetClass = targetClass;
+        this.fieldCount = fieldCount;
+        this.generated = generated;
+    }
+}
@@ -0,0 +1,48 @@
+package com.forlazydevs.transformer.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JFR event spanning a top level transformation, composed objects transformed along the way are part of the same event.
+ */
+@Name("com.forlazydevs.transformer.Transform")
+@Label("Transform")
+@Category("Transformer")
+@Description("A top level transformation of an object into another class")
+@StackTrace(false)
+public final class TransformEvent extends Event {
+
+    @Label("Source Class")
+    private Class<?> sourceClass;
+
+    @Label("Target Class")
+    private Class<?> targetClass;
+
+    @Label("Field Count")
+    @Description("The number of fields copied from the top level object, 0 for mappers generated at compile time")
+    private int fieldCount;
+
+    @Label("Nesting Depth")
+    @Description("The deepest level of composed objects transformed, 0 when no composed object was reached")
+    private int depth;
+
+    /**
+     * Fills the fields of the event, only called once the event should be committed.
+     *
+     * @param sourceClass - The class of the transformed object.
+     * @param targetClass - The class the object was transformed into.
+     * @param fieldCount - The number of fields copied.
+     * @param depth - The deepest level of composed objects transformed.
+     */
+    public void set(Class<?> sourceClass, Class<?> targetClass, int fieldCount, int depth) {
+        this.sourceClass = sourceClass;
+        this.targetClass = targetClass;
+        this.fieldCount = fieldCount;
+        this.depth = depth;
+    }
+}
@@ -0,0 +1,41 @@
+package com.forlazydevs.transformer.jfr;
+
+import java.util.Objects;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JFR event recorded once for every failed top level transformation, with the stack trace of where the failure was reported.
+ * Failures of composed objects are reported by the transformation that reached them, the cause names the class of the wrapped throwable.
+ */
+@Name("com.forlazydevs.transformer.TransformFailure")
+@Label("Transform Failure")
+@Category("Transformer")
+@Description("A TransformerException thrown by the transformer")
+public final class TransformFailureEvent extends Event {
+
+    @Label("Message")
+    private String message;
+
+    @Label("Cause")
+    @Description("The class name of the cause of the exception")
+    private String cause;
+
+    /**
+     * Records an event for the exception if the event is enabled.
+     *
+     * @param exception - The exception failing the transformation.
+     */
+    public static void emit(Throwable exception) {
+        TransformFailureEvent event = new TransformFailureEvent();
+        if (event.shouldCommit()) {
+            event.message = exception.getMessage();
+            event.cause = Objects.isNull(exception.getCause()) ? null : exception.getCause().getClass().getName();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.forlazydevs.transformer.metrics;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.forlazydevs.transformer.exceptions.TransformerException;
+
+/**
+ * Keeps counters per pair of source and target classes in memory, to be read by a monitoring endpoint.
+ * Durations are kept in a histogram of power of two buckets, so percentiles are upper bounds within a factor of two.
+ * The counters are kept in a ClassValue of the source class by target class, so recording does not allocate once a pair has been seen.
+ */
+public class InMemoryTransformerMetrics implements TransformerMetrics {
+
+    private volatile SourceMappings mappings = new SourceMappings();
+    private final Map<String, LongAdder> failuresByCause = new ConcurrentHashMap<String, LongAdder>();
+    private final LongAdder planHits = new LongAdder();
+    private final LongAdder planMisses = new LongAdder();
+
+    @Override
+    public void transformed(Class<?> sourceClass, Class<?> targetClass, long nanos, int fieldsCopied) {
+        stats(sourceClass, targetClass).record(nanos, fieldsCopied);
+    }
+
+    @Override
+    public void composedTransformed(Class<?> sourceClass, Class<?> targetClass) {
+        stats(sourceClass, targetClass).composedTransforms.increment();
+    }
+
+    @Override
+    public void identityCopied(Class<?> sourceClass) {
+        stats(sourceClass, Object.class).identityCopies.increment();
+    }
+
+    @Override
+    public void planLookup(Class<?> sourceClass, Class<?> targetClass, boolean hit) {
+        (hit ? this.planHits : this.planMisses).increment();
+    }
+
+    @Override
+    public void failed(Class<?> sourceClass, Class<?> targetClass, TransformerException cause) {
+        stats(sourceClass, targetClass).failures.increment();
+        Throwable rootCause = cause;
+        while (!Objects.isNull(rootCause.getCause()) && rootCause.getCause() != rootCause) {
+            rootCause = rootCause.getCause();
+        }
+        this.failuresByCause.computeIfAbsent(rootCause.getClass().getName(), key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Retrieves the counters of every pair of classes seen, keyed by "SourceClass->TargetClass".
+     * Identity copies are kept under "EmbeddedClass->java.lang.Object".
+     *
+     * @return Map&lt;String, MappingStats&gt; - The live counters, sorted by key.
+     */
+    public Map<String, MappingStats> getMappings() {
+        return this.mappings.snapshot();
+    }
+
+    /**
+     * Retrieves the counters of a pair of classes.
+     *
+     * @param sourceClass - The class of the transformed objects.
+     * @param targetClass - The class the objects were transformed into.
+     * @return MappingStats - The live counters, null if the pair has not been seen.
+     */
+    public MappingStats getMapping(Class<?> sourceClass, Class<?> targetClass) {
+        return this.mappings.get(sourceClass).get(targetClass);
+    }
+
+    /**
+     * Retrieves the number of failed transformations per class name of the root cause of the failure.
+     *
+     * @return Map&lt;String, Long&gt; - The failure counts, sorted by class name.
+     */
+    public Map<String, Long> getFailuresByCause() {
+        Map<String, Long> failures = new TreeMap<String, Long>();
+        this.failuresByCause.forEach((cause, count) -> failures.put(cause, count.sum()));
+        return failures;
+    }
+
+    /**
+     * Retrieves the number of plan lookups that found an already compiled plan.
+     *
+     * @return long - The number of plan cache hits.
+     */
+    public long getPlanHits() {
+        return this.planHits.sum();
+    }
+
+    /**
+     * Retrieves the number of plan lookups that compiled a plan.
+     *
+     * @return long - The number of plan cache misses.
+     */
+    public long getPlanMisses() {
+        return this.planMisses.sum();
+    }
+
+    /**
+     * Computes the share of plan lookups that found an already compiled plan.
+     *
+     * @return double - The hit ratio between 0 and 1, 0 if no plan has been looked up.
+     */
+    public double getPlanHitRatio() {
+        long hits = getPlanHits();
+        long lookups = hits + getPlanMisses();
+        return lookups == 0 ? 0d : (double) hits / lookups;
+    }
+
+    /**
+     * Drops every recorded measurement.
+     */
+    public void reset() {
+        this.mappings = new SourceMappings();
+        this.failuresByCause.clear();
+        this.planHits.reset();
+        this.planMisses.reset();
+    }
+
+    private MappingStats stats(Class<?> sourceClass, Class<?> targetClass) {
+        return this.mappings.get(sourceClass).computeIfAbsent(targetClass, key -> new MappingStats());
+    }
+
+    /**
+     * The counters of every source class by target class, with the source classes weakly tracked so the pairs seen can be listed.
+     */
+    private static final class SourceMappings extends ClassValue<Map<Class<?>, MappingStats>> {
+        private final Queue<WeakReference<Class<?>>> sourceClasses = new ConcurrentLinkedQueue<WeakReference<Class<?>>>();
+
+        @Override
+        protected Map<Class<?>, MappingStats> computeValue(Class<?> sourceClass) {
+            this.sourceClasses.add(new WeakReference<Class<?>>(sourceClass));
+            return new ConcurrentHashMap<Class<?>, MappingStats>();
+        }
+
+        Map<String, MappingStats> snapshot() {
+            Map<String, MappingStats> snapshot = new TreeMap<String, MappingStats>();
+            Iterator<WeakReference<Class<?>>> references = this.sourceClasses.iterator();
+            while (references.hasNext()) {
+                Class<?> sourceClass = references.next().get();
+                if (Objects.isNull(sourceClass)) {
+                    references.remove();
+                    continue;
+                }
+                get(sourceClass).forEach((targetClass, stats) -> snapshot.put(sourceClass.getName() + "->" + targetClass.getName(), stats));
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * The counters of a pair of source and target classes.
+     */
+    public static final class MappingStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+        private final AtomicLongArray histogram = new AtomicLongArray(Long.SIZE + 1);
+        private final LongAdder fieldsCopied = new LongAdder();
+        private final LongAdder composedTransforms = new LongAdder();
+        private final LongAdder identityCopies = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+
+        private MappingStats() {}
+
+        private void record(long nanos, int fields) {
+            this.count.increment();
+            this.totalNanos.add(nanos);
+            this.maxNanos.accumulate(nanos);
+            this.histogram.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(Math.max(0L, nanos)));
+            this.fieldsCopied.add(fields);
+        }
+
+        /**
+         * Retrieves the number of completed transformations.
+         *
+         * @return long - The number of transformations.
+         */
+        public long getCount() {
+            return this.count.sum();
+        }
+
+        /**
+         * Retrieves the total duration of the transformations.
+         *
+         * @return long - The total duration in nanoseconds.
+         */
+        public long getTotalNanos() {
+            return this.totalNanos.sum();
+        }
+
+        /**
+         * Retrieves the duration of the slowest transformation.
+         *
+         * @return long - The maximum duration in nanoseconds.
+         */
+        public long getMaxNanos() {
+            return this.maxNanos.get();
+        }
+
+        /**
+         * Retrieves the number of fields copied by the transformations.
+         *
+         * @return long - The number of fields copied.
+         */
+        public long getFieldsCopied() {
+            return this.fieldsCopied.sum();
+        }
+
+        /**
+         * Retrieves the number of composed fields and elements transformed.
+         *
+         * @return long - The number of composed transformations.
+         */
+        public long getComposedTransforms() {
+            return this.composedTransforms.sum();
+        }
+
+        /**
+         * Retrieves the number of embedded objects copied as their identity.
+         *
+         * @return long - The number of identity copies.
+         */
+        public long getIdentityCopies() {
+            return this.identityCopies.sum();
+        }
+
+        /**
+         * Retrieves the number of failed transformations.
+         *
+         * @return long - The number of failures.
+         */
+        public long getFailures() {
+            return this.failures.sum();
+        }
+
+        /**
+         * Estimates a percentile of the durations of the transformations.
+         *
+         * @param percentile - The percentile between 0 and 100.
+         * @return long - An upper bound of the percentile in nanoseconds, 0 if nothing has been recorded.
+         */
+        public long getPercentileNanos(double percentile) {
+            long total = 0;
+            for (int i = 0; i < this.histogram.length(); i++) {
+                total += this.histogram.get(i);
+            }
+            long rank = (long) Math.ceil(total * Math.min(100d, Math.max(0d, percentile)) / 100d);
+            long seen = 0;
+            for (int i = 0; i < this.histogram.length(); i++) {
+                seen += this.histogram.get(i);
+                if (seen >= rank && seen > 0) {
+                    return i >= Long.SIZE - 1 ? Long.MAX_VALUE : (1L << i) - 1;
+                }
+            }
+            return 0L;
+        }
+    }
+}
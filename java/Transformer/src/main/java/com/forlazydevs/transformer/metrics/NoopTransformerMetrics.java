@@ -0,0 +1,16 @@
+package com.forlazydevs.transformer.metrics;
+
+/**
+ * The metrics used by default, recording nothing. The transformer does not measure durations when these metrics are set.
+ */
+public final class NoopTransformerMetrics implements TransformerMetrics {
+
+    public static final NoopTransformerMetrics INSTANCE = new NoopTransformerMetrics();
+
+    private NoopTransformerMetrics() {}
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+}
@@ -0,0 +1,62 @@
+package com.forlazydevs.transformer.metrics;
+
+import com.forlazydevs.transformer.exceptions.TransformerException;
+
+/**
+ * Receives measurements of the transformations. Implementations must be thread safe and should return quickly, they are called on the transforming thread.
+ * Every method does nothing by default so implementations only override what they record.
+ */
+public interface TransformerMetrics {
+
+    /**
+     * Determines if the transformer should measure transformations, the durations are only measured for enabled metrics.
+     *
+     * @return boolean - A flag representing if measurements are recorded.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Records a completed top level transformation.
+     *
+     * @param sourceClass - The class of the transformed object.
+     * @param targetClass - The class the object was transformed into.
+     * @param nanos - The duration of the transformation in nanoseconds.
+     * @param fieldsCopied - The number of fields copied, 0 for mappers generated at compile time.
+     */
+    default void transformed(Class<?> sourceClass, Class<?> targetClass, long nanos, int fieldsCopied) {}
+
+    /**
+     * Records the transformation of a composed field or element within another transformation.
+     *
+     * @param sourceClass - The class of the composed value.
+     * @param targetClass - The class the value was transformed into.
+     */
+    default void composedTransformed(Class<?> sourceClass, Class<?> targetClass) {}
+
+    /**
+     * Records the identity of an embedded object copied in place of the object.
+     *
+     * @param sourceClass - The class of the embedded object.
+     */
+    default void identityCopied(Class<?> sourceClass) {}
+
+    /**
+     * Records a lookup of the compiled plan of a transformation.
+     *
+     * @param sourceClass - The class of the objects to transform.
+     * @param targetClass - The class to transform the objects into.
+     * @param hit - A flag representing if the plan was already compiled.
+     */
+    default void planLookup(Class<?> sourceClass, Class<?> targetClass, boolean hit) {}
+
+    /**
+     * Records a failed top level transformation.
+     *
+     * @param sourceClass - The class of the object that could not be transformed.
+     * @param targetClass - The class the object was transformed into.
+     * @param cause - The exception thrown by the transformation.
+     */
+    default void failed(Class<?> sourceClass, Class<?> targetClass, TransformerException cause) {}
+}
@@ -0,0 +1,148 @@
+package com.forlazydevs.transformer.plan;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.forlazydevs.transformer.annotations.TransformComposed;
+import com.forlazydevs.transformer.annotations.TransformIdentity;
+import com.forlazydevs.transformer.annotations.Transformable;
+
+/**
+ * What the transformer reads reflectively from a class: its fields, their annotations and their accessors, discovered once per class.
+ * The metadata is attached to the class through a ClassValue, so it is released together with the class and never keeps a class loader alive.
+ */
+public final class ClassMetadata {
+
+    private static final ClassValue<ClassMetadata> METADATA = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+
+    private final Transformable transformable;
+    private final List<FieldMetadata> instanceFields;
+    private final Map<String, FieldMetadata> fields;
+
+    private ClassMetadata(Class<?> clazz) {
+        this.transformable = clazz.getAnnotation(Transformable.class);
+        Field[] declaredFields = clazz.getDeclaredFields();
+        List<FieldMetadata> instances = new ArrayList<FieldMetadata>(declaredFields.length);
+        Map<String, FieldMetadata> byName = new HashMap<String, FieldMetadata>();
+        for (Field field : declaredFields) {
+            FieldMetadata metadata = new FieldMetadata(field);
+            byName.put(field.getName(), metadata);
+            if (!metadata.isStatic()) {
+                instances.add(metadata);
+            }
+        }
+        this.instanceFields = Collections.unmodifiableList(instances);
+        this.fields = byName;
+    }
+
+    /**
+     * Retrieves the metadata of a class, discovering it on first use.
+     *
+     * @param clazz - The class to describe.
+     * @return ClassMetadata - The metadata of the class.
+     */
+    public static ClassMetadata of(Class<?> clazz) {
+        return METADATA.get(clazz);
+    }
+
+    /**
+     * Determines if the class is marked with @Transformable.
+     *
+     * @return boolean - A flag representing if instances of the class can be transformed.
+     */
+    public boolean isTransformable() {
+        return !Objects.isNull(this.transformable);
+    }
+
+    /**
+     * Retrieves the target classes declared on the @Transformable annotation of the class.
+     *
+     * @return Class&lt;?&gt;[] - The declared targets, empty if there are none or the class is not transformable.
+     */
+    public Class<?>[] getTargetClasses() {
+        return isTransformable() ? this.transformable.targets() : new Class<?>[0];
+    }
+
+    /**
+     * The non-static fields declared by the class, in declaration order.
+     */
+    List<FieldMetadata> getInstanceFields() {
+        return this.instanceFields;
+    }
+
+    /**
+     * A field declared by the class, static or not, null if the class declares no field with the name.
+     */
+    FieldMetadata getField(String name) {
+        return this.fields.get(name);
+    }
+
+    /**
+     * A field of a class with its annotations, and its accessor once it has been created.
+     */
+    static final class FieldMetadata {
+        private final Field field;
+        private final boolean isStatic;
+        private final TransformComposed composed;
+        private final String identityFieldName;
+        private volatile FieldAccessor accessor;
+
+        private FieldMetadata(Field field) {
+            this.field = field;
+            this.isStatic = Modifier.isStatic(field.getModifiers());
+            this.composed = field.getAnnotation(TransformComposed.class);
+            TransformIdentity identity = field.getAnnotation(TransformIdentity.class);
+            this.identityFieldName = Objects.isNull(identity) ? null : identity.value();
+        }
+
+        Field getField() {
+            return this.field;
+        }
+
+        String getName() {
+            return this.field.getName();
+        }
+
+        boolean isStatic() {
+            return this.isStatic;
+        }
+
+        boolean isComposed() {
+            return !Objects.isNull(this.composed);
+        }
+
+        boolean isLazy() {
+            return isComposed() && this.composed.lazy();
+        }
+
+        /**
+         * The value of the @TransformIdentity annotation of the field, null if the field is not annotated.
+         */
+        String getIdentityFieldName() {
+            return this.identityFieldName;
+        }
+
+        /**
+         * The accessor of the field, created on first use. Concurrent first uses may create it more than once, the accessors are equivalent.
+         */
+        FieldAccessor getAccessor() throws IllegalAccessException {
+            FieldAccessor created = this.accessor;
+            if (Objects.isNull(created)) {
+                created = FieldAccessor.of(this.field);
+                this.accessor = created;
+            }
+            return created;
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.forlazydevs.transformer.plan;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.IntFunction;
+
+import com.forlazydevs.transformer.TransformContext;
+import com.forlazydevs.transformer.exceptions.TransformerException;
+import com.forlazydevs.transformer.rulebook.CompiledRulebook;
+
+/**
+ * Transforms the elements of a composed collection, array or map field one by one into a new container of the type of the target field.
+ * The class of the elements is taken from the rules, or from the element type of the target field when no rule applies.
+ * Maps keep their keys and transform their values, sorted maps keep the comparator of a sorted source map.
+ * Sorted sets hold the transformed elements in their natural order, so their elements must be Comparable.
+ */
+final class ContainerTransform {
+
+    private enum Shape { ARRAY, COLLECTION, MAP }
+
+    private final Shape sourceShape;
+    private final Shape targetShape;
+    private final Class<?> elementClass;
+    private final IntFunction<Object> factory;
+    // Whether the target is a sorted map, which takes the comparator of a sorted source map.
+    private final boolean sorted;
+
+    private ContainerTransform(Shape sourceShape, Shape targetShape, Class<?> elementClass, IntFunction<Object> factory, boolean sorted) {
+        this.sourceShape = sourceShape;
+        this.targetShape = targetShape;
+        this.elementClass = elementClass;
+        this.factory = factory;
+        this.sorted = sorted;
+    }
+
+    /**
+     * Builds the transform between two container fields.
+     *
+     * @return ContainerTransform - The transform, or null if the fields are not both containers of objects of compatible shapes.
+     */
+    static ContainerTransform of(Field sourceField, Field targetField) {
+        Shape sourceShape = sourceShape(sourceField.getType());
+        Shape targetShape = targetShape(targetField.getType());
+        if (Objects.isNull(sourceShape) || Objects.isNull(targetShape) || (sourceShape == Shape.MAP) != (targetShape == Shape.MAP)) {
+            return null;
+        }
+        IntFunction<Object> factory = factory(targetField.getType());
+        if (Objects.isNull(factory)) {
+            return null;
+        }
+        Class<?> targetType = targetField.getType();
+        boolean sorted = SortedMap.class.isAssignableFrom(targetType) && targetType.isAssignableFrom(TreeMap.class);
+        return new ContainerTransform(sourceShape, targetShape, elementClass(targetField, targetShape), factory, sorted);
+    }
+
+    /**
+     * Describes why a container field cannot be transformed into the other, before any value is transformed.
+     *
+     * @return String - The problem, or null if the elements of the source container can be held by the target container.
+     */
+    static String unsupported(Field sourceField, Field targetField) {
+        Class<?> targetType = targetField.getType();
+        if (Objects.isNull(sourceShape(sourceField.getType()))) {
+            return null;
+        }
+        if (SortedSet.class.isAssignableFrom(targetType)) {
+            Class<?> elementClass = elementClass(targetField, Shape.COLLECTION);
+            if (!Objects.isNull(elementClass) && !Comparable.class.isAssignableFrom(elementClass)) {
+                return "Could not sort the elements of field " + targetField.getName() + ", " + elementClass.getSimpleName() + " is not Comparable.";
+            }
+        } else if (SortedMap.class.isAssignableFrom(targetType) && !SortedMap.class.isAssignableFrom(sourceField.getType())) {
+            Class<?> keyClass = keyClass(sourceField);
+            if (!Objects.isNull(keyClass) && !Comparable.class.isAssignableFrom(keyClass)) {
+                return "Could not sort the keys of field " + targetField.getName() + ", " + keyClass.getSimpleName() + " is not Comparable.";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Transforms the elements of the container.
+     *
+     * @param value - The container to transform.
+     * @param elementRule - The class to transform every element into, null to resolve it per element.
+     * @param compiledRules - The rules of the transformation.
+     * @param context - The context of the transformation.
+     * @return Object - The new container.
+     * @throws TransformerException - If an element cannot be transformed.
+     */
+    @SuppressWarnings("unchecked")
+    Object transform(Object value, Class<?> elementRule, CompiledRulebook compiledRules, TransformContext context) throws TransformerException {
+        if (this.sourceShape == Shape.MAP) {
+            Map<?, ?> source = (Map<?, ?>) value;
+            Map<Object, Object> target;
+            if (source instanceof SortedMap && this.sorted) {
+                target = new TreeMap<Object, Object>((Comparator<Object>) ((SortedMap<?, ?>) source).comparator());
+            } else {
+                target = (Map<Object, Object>) this.factory.apply(source.size());
+            }
+            for (Map.Entry<?, ?> entry : source.entrySet()) {
+                Object element = element(entry.getValue(), elementRule, compiledRules, context);
+                try {
+                    target.put(entry.getKey(), element);
+                } catch (RuntimeException ex) {
+                    throw rejected(target, ex);
+                }
+            }
+            return target;
+        }
+
+        if (this.targetShape == Shape.ARRAY) {
+            Object[] target;
+            if (this.sourceShape == Shape.ARRAY) {
+                Object[] source = (Object[]) value;
+                target = (Object[]) this.factory.apply(source.length);
+                for (int i = 0; i < source.length; i++) {
+                    target[i] = element(source[i], elementRule, compiledRules, context);
+                }
+            } else {
+                Collection<?> source = (Collection<?>) value;
+                target = (Object[]) this.factory.apply(source.size());
+                int i = 0;
+                for (Object element : source) {
+                    target[i++] = element(element, elementRule, compiledRules, context);
+                }
+            }
+            return target;
+        }
+
+        Collection<Object> target;
+        if (this.sourceShape == Shape.ARRAY) {
+            Object[] source = (Object[]) value;
+            target = (Collection<Object>) this.factory.apply(source.length);
+            for (Object element : source) {
+                add(target, element(element, elementRule, compiledRules, context));
+            }
+        } else {
+            Collection<?> source = (Collection<?>) value;
+            target = (Collection<Object>) this.factory.apply(source.size());
+            for (Object element : source) {
+                add(target, element(element, elementRule, compiledRules, context));
+            }
+        }
+        return target;
+    }
+
+    private static void add(Collection<Object> target, Object element) throws TransformerException {
+        try {
+            target.add(element);
+        } catch (RuntimeException ex) {
+            throw rejected(target, ex);
+        }
+    }
+
+    /**
+     * Reports an element refused by the target container, such as a null element of a container that does not allow them
+     * or an element a sorted container cannot compare.
+     */
+    private static TransformerException rejected(Object target, RuntimeException ex) {
+        return new TransformerException("Could not add an element to " + target.getClass().getSimpleName(), ex);
+    }
+
+    private Object element(Object element, Class<?> elementRule, CompiledRulebook compiledRules, TransformContext context) throws TransformerException {
+        if (Objects.isNull(element)) {
+            return null;
+        }
+        Class<?> elementTarget = elementRule;
+        if (Objects.isNull(elementTarget)) {
+            if (compiledRules.hasClassComposedRule(element.getClass())) {
+                elementTarget = compiledRules.getClassComposedRule(element.getClass());
+            } else if (!Objects.isNull(this.elementClass) && !this.elementClass.isInstance(element)) {
+                elementTarget = this.elementClass;
+            }
+            if (Objects.isNull(elementTarget)) {
+                return element;
+            }
+        }
+        return context.transform(element, elementTarget);
+    }
+
+    private static Shape sourceShape(Class<?> type) {
+        if (type.isArray()) {
+            return type.getComponentType().isPrimitive() ? null : Shape.ARRAY;
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return Shape.COLLECTION;
+        }
+        return Map.class.isAssignableFrom(type) ? Shape.MAP : null;
+    }
+
+    private static Shape targetShape(Class<?> type) {
+        if (type == Iterable.class) {
+            return Shape.COLLECTION;
+        }
+        return sourceShape(type);
+    }
+
+    private static Class<?> elementClass(Field targetField, Shape targetShape) {
+        if (targetShape == Shape.ARRAY) {
+            Class<?> componentType = targetField.getType().getComponentType();
+            return componentType == Object.class ? null : componentType;
+        }
+        Type type = targetField.getGenericType();
+        if (!(type instanceof ParameterizedType)) {
+            return null;
+        }
+        Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+        Type elementType = arguments[targetShape == Shape.MAP && arguments.length > 1 ? 1 : 0];
+        if (elementType instanceof ParameterizedType) {
+            elementType = ((ParameterizedType) elementType).getRawType();
+        }
+        return elementType instanceof Class && elementType != Object.class ? (Class<?>) elementType : null;
+    }
+
+    private static Class<?> keyClass(Field sourceField) {
+        Type type = sourceField.getGenericType();
+        if (!(type instanceof ParameterizedType)) {
+            return null;
+        }
+        Type keyType = ((ParameterizedType) type).getActualTypeArguments()[0];
+        if (keyType instanceof ParameterizedType) {
+            keyType = ((ParameterizedType) keyType).getRawType();
+        }
+        return keyType instanceof Class && keyType != Object.class ? (Class<?>) keyType : null;
+    }
+
+    /**
+     * Creates containers of the type of the target field pre-sized for the number of elements.
+     * Interfaces get the usual JDK implementation, queues a LinkedList so null elements are kept, concrete types need a public no argument constructor.
+     */
+    private static IntFunction<Object> factory(Class<?> type) {
+        if (type.isArray()) {
+            Class<?> componentType = type.getComponentType();
+            return size -> Array.newInstance(componentType, size);
+        }
+        if (type == ArrayList.class || type.isInterface() && type.isAssignableFrom(ArrayList.class)) {
+            return ArrayList::new;
+        }
+        if (type == LinkedHashSet.class || type.isInterface() && type.isAssignableFrom(LinkedHashSet.class)) {
+            return size -> new LinkedHashSet<Object>(capacity(size));
+        }
+        if (type == HashSet.class) {
+            return size -> new HashSet<Object>(capacity(size));
+        }
+        if (type == LinkedList.class || type.isInterface() && type.isAssignableFrom(LinkedList.class)) {
+            return size -> new LinkedList<Object>();
+        }
+        if (type == LinkedHashMap.class || type.isInterface() && type.isAssignableFrom(LinkedHashMap.class)) {
+            return size -> new LinkedHashMap<Object, Object>(capacity(size));
+        }
+        if (type == HashMap.class) {
+            return size -> new HashMap<Object, Object>(capacity(size));
+        }
+        if (type.isInterface() && type.isAssignableFrom(TreeSet.class)) {
+            return size -> new TreeSet<Object>();
+        }
+        if (type.isInterface() && type.isAssignableFrom(TreeMap.class)) {
+            return size -> new TreeMap<Object, Object>();
+        }
+        MethodHandle constructor;
+        try {
+            constructor = MethodHandles.publicLookup().findConstructor(type, MethodType.methodType(void.class)).asType(MethodType.methodType(Object.class));
+        } catch (ReflectiveOperationException ex) {
+            return null;
+        }
+        return size -> {
+            try {
+                return (Object) constructor.invokeExact();
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new IllegalStateException(ex);
+            }
+        };
+    }
+
+    private static int capacity(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+}
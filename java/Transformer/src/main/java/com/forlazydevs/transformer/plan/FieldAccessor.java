@@ -0,0 +1,104 @@
+package com.forlazydevs.transformer.plan;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Objects;
+
+/**
+ * Reads and writes a single field through method handles resolved once, instead of going through Field.get and Field.set on every call.
+ */
+final class FieldAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+    private final MethodHandle typedGetter;
+    private final MethodHandle typedSetter;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    private FieldAccessor(Field field, MethodHandle getter, MethodHandle setter) {
+        this.field = field;
+        this.typedGetter = getter.asType(getter.type().changeParameterType(0, Object.class));
+        this.getter = getter.asType(GETTER_TYPE);
+        this.typedSetter = Objects.isNull(setter) ? null : setter.asType(setter.type().changeParameterType(0, Object.class));
+        this.setter = Objects.isNull(setter) ? null : setter.asType(SETTER_TYPE);
+    }
+
+    /**
+     * Creates the accessor of a field. The field is only writable when the runtime allows it, final fields of records can only be read.
+     */
+    static FieldAccessor of(Field field) throws IllegalAccessException {
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+        MethodHandle getter = lookup.unreflectGetter(field);
+        try {
+            // Private lookups cannot write final fields without the accessible flag, the REFLECTIVE strategy needs it on every field.
+            field.setAccessible(true);
+        } catch (RuntimeException ex) {
+            // Left to fail when the field is used.
+        }
+        MethodHandle setter = null;
+        try {
+            setter = lookup.unreflectSetter(field);
+        } catch (IllegalAccessException | RuntimeException ex) {
+            // Only written through a constructor.
+        }
+        return new FieldAccessor(field, getter, setter);
+    }
+
+    boolean isWritable() {
+        return !Objects.isNull(this.setter);
+    }
+
+    Object get(Object instance) {
+        try {
+            return (Object) this.getter.invokeExact(instance);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    void set(Object instance, Object value) {
+        if (Objects.isNull(this.setter)) {
+            throw new IllegalStateException("Field " + getName() + " of " + this.field.getDeclaringClass().getSimpleName() + " can only be set through a constructor.");
+        }
+        try {
+            this.setter.invokeExact(instance, value);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * The getter keeping the field type as its return type, (Object)FieldType.
+     */
+    MethodHandle getTypedGetter() {
+        return this.typedGetter;
+    }
+
+    /**
+     * The setter keeping the field type as its value type, (Object,FieldType)void, null if the field is not writable.
+     */
+    MethodHandle getTypedSetter() {
+        return this.typedSetter;
+    }
+
+    Field getField() {
+        return this.field;
+    }
+
+    String getName() {
+        return this.field.getName();
+    }
+
+    Class<?> getType() {
+        return this.field.getType();
+    }
+}
@@ -0,0 +1,299 @@
+package com.forlazydevs.transformer.plan;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.util.Objects;
+
+import com.forlazydevs.transformer.TransformContext;
+import com.forlazydevs.transformer.exceptions.MissingIdentityFieldException;
+import com.forlazydevs.transformer.exceptions.TransformerException;
+import com.forlazydevs.transformer.rulebook.CompiledRulebook;
+
+/**
+ * A single resolved copy operation from a field of the object to transform into a field of the transformed object.
+ */
+final class FieldCopy {
+
+    static final MethodType STEP_TYPE = MethodType.methodType(void.class, Object.class, Object.class, TransformContext.class);
+    private static final MethodType SAME_TYPE = MethodType.methodType(boolean.class, Object.class, Object.class);
+    private static final MethodHandle COPY;
+    private static final MethodHandle SAME_LONG;
+    private static final MethodHandle SAME_DOUBLE;
+    private static final MethodHandle SAME_BOOLEAN;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            COPY = lookup.findVirtual(FieldCopy.class, "copy", MethodType.methodType(void.class, Object.class, Object.class, CompiledRulebook.class, TransformContext.class));
+            SAME_LONG = lookup.findStatic(FieldCopy.class, "same", MethodType.methodType(boolean.class, long.class, long.class));
+            SAME_DOUBLE = lookup.findStatic(FieldCopy.class, "same", MethodType.methodType(boolean.class, double.class, double.class));
+            SAME_BOOLEAN = lookup.findStatic(FieldCopy.class, "same", MethodType.methodType(boolean.class, boolean.class, boolean.class));
+        } catch (ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    private final FieldAccessor sourceField;
+    private final FieldAccessor targetField;
+    private final boolean composed;
+    private final boolean hasNamedComposedRule;
+    private final Class<?> namedComposedClass;
+    private final String identityFieldName;
+    // Copies the value without boxing it, for primitive fields and converted fields.
+    private final MethodHandle primitiveCopy;
+    // The conversion of the value as (Object)Object, null if the value is copied as it is.
+    private final MethodHandle conversion;
+    // Compares the primitive source field of two objects without boxing, as (Object, Object)boolean, null for reference fields.
+    private final MethodHandle samePrimitive;
+    private final ContainerTransform container;
+    private final Class<?> lazyType;
+    // The last failure to find the identity field, reused while it keeps failing for the same class and stack traces are not captured.
+    private volatile MissingIdentityFieldException missingIdentityField;
+
+    FieldCopy(FieldAccessor sourceField, FieldAccessor targetField, boolean composed, boolean lazy, boolean hasNamedComposedRule, Class<?> namedComposedClass, String identityFieldName, MethodHandle conversion) {
+        this.sourceField = sourceField;
+        this.targetField = targetField;
+        this.composed = composed;
+        this.hasNamedComposedRule = hasNamedComposedRule;
+        this.namedComposedClass = namedComposedClass;
+        this.identityFieldName = identityFieldName;
+        if (composed || !Objects.isNull(identityFieldName)) {
+            this.primitiveCopy = null;
+        } else if (Objects.isNull(conversion)) {
+            this.primitiveCopy = primitiveCopy(sourceField, targetField);
+        } else {
+            this.primitiveCopy = convertedCopy(sourceField, targetField, conversion);
+        }
+        this.conversion = Objects.isNull(conversion) ? null : conversion.asType(MethodType.methodType(Object.class, Object.class));
+        this.samePrimitive = samePrimitive(sourceField);
+        this.container = composed ? ContainerTransform.of(sourceField.getField(), targetField.getField()) : null;
+        this.lazyType = composed && lazy && Objects.isNull(this.container) && targetField.getType().isInterface() ? targetField.getType() : null;
+    }
+
+    /**
+     * Builds a handle of type (Object source, Object target)void copying a primitive field into a primitive field of the same or a wider type,
+     * such as int into long, without boxing the value. Returns null if either field is not primitive or the conversion would narrow the value.
+     */
+    private static MethodHandle primitiveCopy(FieldAccessor sourceField, FieldAccessor targetField) {
+        if (!sourceField.getType().isPrimitive() || !targetField.getType().isPrimitive() || !targetField.isWritable()) {
+            return null;
+        }
+        MethodHandle getter;
+        try {
+            getter = sourceField.getTypedGetter().asType(MethodType.methodType(targetField.getType(), Object.class));
+        } catch (WrongMethodTypeException ex) {
+            // Narrowing or boolean conversions are left to fail at transform time.
+            return null;
+        }
+        MethodHandle copy = MethodHandles.filterArguments(targetField.getTypedSetter(), 1, getter);
+        return MethodHandles.permuteArguments(copy, MethodType.methodType(void.class, Object.class, Object.class), 1, 0);
+    }
+
+    /**
+     * Builds a handle of type (Object source, Object target)void reading the source field, converting the value and writing it into the target field,
+     * with the field types kept along the way so primitive values are not boxed. Returns null if the target field is not writable.
+     */
+    private static MethodHandle convertedCopy(FieldAccessor sourceField, FieldAccessor targetField, MethodHandle conversion) {
+        if (!targetField.isWritable()) {
+            return null;
+        }
+        MethodHandle getter = MethodHandles.filterReturnValue(sourceField.getTypedGetter(), conversion);
+        MethodHandle copy = MethodHandles.filterArguments(targetField.getTypedSetter(), 1, getter);
+        return MethodHandles.permuteArguments(copy, MethodType.methodType(void.class, Object.class, Object.class), 1, 0);
+    }
+
+    private static MethodHandle samePrimitive(FieldAccessor sourceField) {
+        Class<?> type = sourceField.getType();
+        if (!type.isPrimitive()) {
+            return null;
+        }
+        MethodHandle same = type == boolean.class ? SAME_BOOLEAN : type == float.class || type == double.class ? SAME_DOUBLE : SAME_LONG;
+        MethodHandle getter = sourceField.getTypedGetter().asType(MethodType.methodType(same.type().parameterType(0), Object.class));
+        return MethodHandles.filterArguments(same, 0, getter, getter).asType(SAME_TYPE);
+    }
+
+    private static boolean same(long previous, long current) {
+        return previous == current;
+    }
+
+    private static boolean same(double previous, double current) {
+        return Double.compare(previous, current) == 0;
+    }
+
+    private static boolean same(boolean previous, boolean current) {
+        return previous == current;
+    }
+
+    String getSourceFieldName() {
+        return this.sourceField.getName();
+    }
+
+    String getTargetFieldName() {
+        return this.targetField.getName();
+    }
+
+    FieldAccessor getTargetField() {
+        return this.targetField;
+    }
+
+    void copy(Object source, Object target, CompiledRulebook compiledRules, TransformContext context) throws ReflectiveOperationException, TransformerException {
+        if (!Objects.isNull(this.primitiveCopy)) {
+            try {
+                this.primitiveCopy.invokeExact(source, target);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new IllegalStateException(ex);
+            }
+            return;
+        }
+
+        this.targetField.set(target, value(source, compiledRules, context));
+    }
+
+    /**
+     * Determines if the source field holds a different value in the current object than in the previous one.
+     * Primitive values are compared without boxing, references with Objects.deepEquals.
+     */
+    boolean changed(Object previous, Object current) {
+        if (!Objects.isNull(this.samePrimitive)) {
+            try {
+                return !(boolean) this.samePrimitive.invokeExact(previous, current);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+        return !Objects.deepEquals(this.sourceField.get(previous), this.sourceField.get(current));
+    }
+
+    /**
+     * Performs this copy for a field that changed since the previous object. A composed value already transformed into the target is updated
+     * in place with the fields that changed since its previous value, other values are copied as with {@link #copy}.
+     */
+    void copyChanged(Object previous, Object current, Object target, CompiledRulebook compiledRules, TransformContext context) throws ReflectiveOperationException, TransformerException {
+        if (this.composed && Objects.isNull(this.container) && !Objects.isNull(previous)) {
+            Object previousValue = this.sourceField.get(previous);
+            Object currentValue = this.sourceField.get(current);
+            Object existing = this.targetField.get(target);
+            if (!Objects.isNull(previousValue) && !Objects.isNull(currentValue) && !Objects.isNull(existing) && previousValue.getClass() == currentValue.getClass()) {
+                Class<?> composedClass = this.hasNamedComposedRule ? this.namedComposedClass : compiledRules.getClassComposedRule(currentValue.getClass());
+                if (existing.getClass() == composedClass && context.transformChanges(previousValue, currentValue, existing)) {
+                    return;
+                }
+            }
+        }
+        copy(current, target, compiledRules, context);
+    }
+
+    /**
+     * Performs this copy through the reflected fields, with Field.get and Field.set.
+     */
+    void copyReflective(Object source, Object target, CompiledRulebook compiledRules, TransformContext context) throws ReflectiveOperationException, TransformerException {
+        Object value = this.sourceField.getField().get(source);
+        this.targetField.getField().set(target, Objects.isNull(value) ? null : transformValue(value, compiledRules, context));
+    }
+
+    /**
+     * Computes the value this copy writes into the target, applying composed and identity transforms.
+     */
+    Object value(Object source, CompiledRulebook compiledRules, TransformContext context) throws ReflectiveOperationException, TransformerException {
+        Object value = this.sourceField.get(source);
+        return Objects.isNull(value) ? null : transformValue(value, compiledRules, context);
+    }
+
+    private Object transformValue(Object value, CompiledRulebook compiledRules, TransformContext context) throws ReflectiveOperationException, TransformerException {
+        if (!Objects.isNull(this.conversion)) {
+            return convert(value);
+        }
+        boolean composedTransformHappened = false;
+        if (this.composed) {
+            // Rules for specified fields take precedence over rules for classes.
+            // On collection, array and map fields the rule for the field names the class of the elements.
+            if (this.hasNamedComposedRule) {
+                if (!Objects.isNull(this.container) && !Objects.isNull(this.namedComposedClass)) {
+                    value = this.container.transform(value, this.namedComposedClass, compiledRules, context);
+                } else {
+                    value = transformComposed(value, this.namedComposedClass, context);
+                }
+                composedTransformHappened = true;
+            } else if (compiledRules.hasClassComposedRule(value.getClass())) {
+                value = transformComposed(value, compiledRules.getClassComposedRule(value.getClass()), context);
+                composedTransformHappened = true;
+            } else if (!Objects.isNull(this.container)) {
+                value = this.container.transform(value, null, compiledRules, context);
+                composedTransformHappened = true;
+            }
+        }
+
+        if (!composedTransformHappened && !Objects.isNull(this.identityFieldName)) {
+            context.getMetrics().identityCopied(value.getClass());
+            value = identityField(value.getClass(), context).get(value);
+        }
+        return value;
+    }
+
+    private Object convert(Object value) {
+        try {
+            return (Object) this.conversion.invokeExact(value);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Builds a method handle of type (Object source, Object target, TransformContext context)void performing this copy.
+     * Plain copies read and write through the typed field handles so no value is boxed, copies that need the context are bound to {@link #copy}.
+     */
+    MethodHandle toHandle(CompiledRulebook compiledRules) {
+        if (!Objects.isNull(this.primitiveCopy)) {
+            return MethodHandles.dropArguments(this.primitiveCopy, 2, TransformContext.class);
+        }
+        if (!this.composed && Objects.isNull(this.identityFieldName) && this.targetField.isWritable()) {
+            MethodHandle setter = this.targetField.getTypedSetter();
+            MethodHandle getter;
+            try {
+                getter = this.sourceField.getTypedGetter().asType(MethodType.methodType(setter.type().parameterType(1), Object.class));
+            } catch (WrongMethodTypeException ex) {
+                // Incompatible field types, fail at transform time like the plan does.
+                setter = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+                getter = this.sourceField.getTypedGetter().asType(MethodType.methodType(Object.class, Object.class));
+            }
+            MethodHandle copy = MethodHandles.filterArguments(setter, 1, getter);
+            copy = MethodHandles.permuteArguments(copy, MethodType.methodType(void.class, Object.class, Object.class), 1, 0);
+            return MethodHandles.dropArguments(copy, 2, TransformContext.class);
+        }
+        return MethodHandles.insertArguments(COPY.bindTo(this), 2, compiledRules);
+    }
+
+    private FieldAccessor identityField(Class<?> valueClass, TransformContext context) throws ReflectiveOperationException, TransformerException {
+        ClassMetadata.FieldMetadata field = ClassMetadata.of(valueClass).getField(this.identityFieldName);
+        if (Objects.isNull(field)) {
+            if (context.getEngine().isCapturingStackTraces()) {
+                throw new MissingIdentityFieldException(valueClass, this.identityFieldName, true);
+            }
+            MissingIdentityFieldException missing = this.missingIdentityField;
+            if (Objects.isNull(missing) || missing.getValueClass() != valueClass) {
+                missing = new MissingIdentityFieldException(valueClass, this.identityFieldName, false);
+                this.missingIdentityField = missing;
+            }
+            throw missing;
+        }
+        return field.getAccessor();
+    }
+
+    private Object transformComposed(Object value, Class<?> composedClass, TransformContext context) throws TransformerException {
+        if (Objects.isNull(composedClass)) {
+            return value;
+        }
+        if (!Objects.isNull(this.lazyType) && this.lazyType.isAssignableFrom(composedClass)) {
+            return LazyComposed.proxy(this.lazyType, value, composedClass, context);
+        }
+        return context.transform(value, composedClass);
+    }
+}
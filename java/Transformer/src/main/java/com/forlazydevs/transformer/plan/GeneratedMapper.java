@@ -0,0 +1,11 @@
+package com.forlazydevs.transformer.plan;
+
+import com.forlazydevs.transformer.TransformContext;
+
+/**
+ * A mapper class emitted for a single transform plan, performing every field copy of the plan in straight-line code.
+ */
+interface GeneratedMapper {
+
+    void map(Object source, Object target, TransformContext context) throws Exception;
+}
@@ -0,0 +1,126 @@
+package com.forlazydevs.transformer.plan;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import com.forlazydevs.transformer.exceptions.NoUsableConstructorException;
+import com.forlazydevs.transformer.exceptions.TransformerException;
+
+/**
+ * Creates instances of a target class through a constructor method handle resolved once.
+ * Classes with a no argument constructor are created empty and populated field by field, others need a constructor taking every instance field
+ * in declaration order, such as the canonical constructor of a record, which is called with the values collected for the fields.
+ * The constructor of a class is resolved once and kept in a ClassValue along with the failure to resolve it, so targets without a usable
+ * constructor fail again without resolving anything.
+ */
+final class Instantiator {
+
+    private static final MethodType NO_ARGUMENTS = MethodType.methodType(Object.class);
+    private static final MethodType ALL_ARGUMENTS = MethodType.methodType(Object.class, Object[].class);
+    // The instantiator of each class, or the stackless exception thrown when the class cannot be instantiated.
+    private static final ClassValue<Object> RESOLVED = new ClassValue<Object>() {
+        @Override
+        protected Object computeValue(Class<?> type) {
+            try {
+                return resolve(type);
+            } catch (TransformerException ex) {
+                return ex;
+            }
+        }
+    };
+
+    private final MethodHandle constructor;
+    private final Object[] defaults;
+
+    private Instantiator(MethodHandle constructor, Object[] defaults) {
+        this.constructor = constructor;
+        this.defaults = defaults;
+    }
+
+    /**
+     * Retrieves the instantiator of the class.
+     *
+     * @param clazz - The class to create instances of.
+     * @param stackTraces - False to throw the failure cached for the class, without a stack trace.
+     * @return Instantiator - The instantiator of the class.
+     * @throws TransformerException - If the class has neither a no argument constructor nor a constructor taking all of its fields.
+     */
+    static Instantiator of(Class<?> clazz, boolean stackTraces) throws TransformerException {
+        Object resolved = RESOLVED.get(clazz);
+        if (resolved instanceof Instantiator) {
+            return (Instantiator) resolved;
+        }
+        TransformerException failure = (TransformerException) resolved;
+        if (!stackTraces) {
+            throw failure;
+        }
+        if (failure instanceof NoUsableConstructorException) {
+            throw new NoUsableConstructorException(clazz, true);
+        }
+        throw new TransformerException(failure.getMessage(), failure.getCause());
+    }
+
+    private static Instantiator resolve(Class<?> clazz) throws TransformerException {
+        MethodHandles.Lookup lookup;
+        try {
+            lookup = MethodHandles.privateLookupIn(clazz, MethodHandles.lookup());
+        } catch (IllegalAccessException ex) {
+            throw new TransformerException("Could not access the constructors of " + clazz.getSimpleName(), ex, false);
+        }
+
+        try {
+            return new Instantiator(lookup.findConstructor(clazz, MethodType.methodType(void.class)).asType(NO_ARGUMENTS), null);
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+            // Fall back to a constructor taking all fields.
+        }
+
+        List<ClassMetadata.FieldMetadata> fields = ClassMetadata.of(clazz).getInstanceFields();
+        Class<?>[] fieldTypes = new Class<?>[fields.size()];
+        Object[] defaults = new Object[fields.size()];
+        for (int i = 0; i < fieldTypes.length; i++) {
+            fieldTypes[i] = fields.get(i).getField().getType();
+            // Slots of fields without a value keep the default value of their type.
+            defaults[i] = fieldTypes[i].isPrimitive() ? Array.get(Array.newInstance(fieldTypes[i], 1), 0) : null;
+        }
+        for (Constructor<?> candidate : clazz.getDeclaredConstructors()) {
+            if (fieldTypes.length > 0 && Arrays.equals(candidate.getParameterTypes(), fieldTypes)) {
+                try {
+                    MethodHandle constructor = lookup.unreflectConstructor(candidate);
+                    constructor = constructor.asType(constructor.type().generic()).asSpreader(Object[].class, fieldTypes.length).asType(ALL_ARGUMENTS);
+                    return new Instantiator(constructor, defaults);
+                } catch (IllegalAccessException ex) {
+                    throw new TransformerException("Could not access the constructor of " + clazz.getSimpleName(), ex, false);
+                }
+            }
+        }
+        throw new NoUsableConstructorException(clazz, false);
+    }
+
+    /**
+     * Determines if instances are created by passing the values of their fields to the constructor.
+     */
+    boolean takesFields() {
+        return !Objects.isNull(this.defaults);
+    }
+
+    /**
+     * Creates the arguments of the constructor, holding the default value of each field.
+     */
+    Object[] newArguments() {
+        return this.defaults.clone();
+    }
+
+    Object newInstance() throws Throwable {
+        return (Object) this.constructor.invokeExact();
+    }
+
+    Object newInstance(Object[] arguments) throws Throwable {
+        return (Object) this.constructor.invokeExact(arguments);
+    }
+}
@@ -0,0 +1,72 @@
+package com.forlazydevs.transformer.plan;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Objects;
+
+import com.forlazydevs.transformer.TransformContext;
+import com.forlazydevs.transformer.exceptions.TransformerException;
+import com.forlazydevs.transformer.exceptions.UncheckedTransformerException;
+import com.forlazydevs.transformer.jfr.TransformFailureEvent;
+
+/**
+ * Stands in for a composed field until one of its methods is called, then transforms the value once and forwards every call to the result.
+ * The value is transformed under the snapshot of the rules of the transformation that reached it, in a context of its own.
+ * A value that cannot be transformed throws an {@link UncheckedTransformerException} from the method call.
+ */
+final class LazyComposed implements InvocationHandler {
+
+    private final Object value;
+    private final Class<?> composedClass;
+    private final TransformContext context;
+    private volatile Object transformed;
+
+    private LazyComposed(Object value, Class<?> composedClass, TransformContext context) {
+        this.value = value;
+        this.composedClass = composedClass;
+        this.context = context;
+    }
+
+    /**
+     * Creates a proxy of the interface transforming the value on first use.
+     *
+     * @param type - The interface of the field, implemented by the composed class.
+     * @param value - The value to transform.
+     * @param composedClass - The class to transform the value into.
+     * @param context - The context of the transformation reaching the value.
+     * @return Object - The proxy.
+     */
+    static Object proxy(Class<?> type, Object value, Class<?> composedClass, TransformContext context) {
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, new LazyComposed(value, composedClass, context.detach()));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(transformed(), args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private Object transformed() {
+        Object result = this.transformed;
+        if (Objects.isNull(result)) {
+            synchronized (this) {
+                result = this.transformed;
+                if (Objects.isNull(result)) {
+                    try {
+                        result = this.context.transform(this.value, this.composedClass);
+                    } catch (TransformerException ex) {
+                        TransformFailureEvent.emit(ex);
+                        throw new UncheckedTransformerException(ex);
+                    }
+                    this.transformed = result;
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,282 @@
+package com.forlazydevs.transformer.plan;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Emits a dedicated {@link GeneratedMapper} class per plan.
+ * Every field copy of the plan becomes a static final method handle of the mapper class and the map method invokes them one after the other,
+ * which lets the JIT treat the handles as constants and inline the copies as if they were written by hand.
+ * The class is defined as a hidden class, which is unloaded with the plan instead of pinning the classes its handles reference.
+ * Runtimes without hidden classes, before Java 15, use the fallback mapper rather than defining a class in the loader of this library.
+ * A class that fails to be defined is a bug of the generator and is logged before falling back.
+ */
+final class MapperGenerator {
+
+    private static final System.Logger LOGGER = System.getLogger(MapperGenerator.class.getName());
+    private static final int MAX_GENERATED_COPIES = 4096;
+    private static final String MAPPER_NAME = "com/forlazydevs/transformer/plan/GeneratedMapper$";
+    private static final String HANDLE_DESCRIPTOR = "Ljava/lang/invoke/MethodHandle;";
+    private static final String STEP_DESCRIPTOR = FieldCopy.STEP_TYPE.toMethodDescriptorString();
+    private static final AtomicLong COUNTER = new AtomicLong();
+    private static final Map<String, MethodHandle[]> PENDING = new ConcurrentHashMap<String, MethodHandle[]>();
+    private static final Method DEFINE_HIDDEN_CLASS;
+    private static final Object NO_CLASS_OPTIONS;
+
+    static {
+        Method defineHiddenClass = null;
+        Object noClassOptions = null;
+        try {
+            Class<?> classOption = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+            noClassOptions = Array.newInstance(classOption, 0);
+            defineHiddenClass = MethodHandles.Lookup.class.getMethod("defineHiddenClass", byte[].class, boolean.class, noClassOptions.getClass());
+        } catch (ReflectiveOperationException ex) {
+            // Hidden classes are not available before Java 15.
+        }
+        DEFINE_HIDDEN_CLASS = defineHiddenClass;
+        NO_CLASS_OPTIONS = noClassOptions;
+    }
+
+    private MapperGenerator() {}
+
+    /**
+     * Generates a mapper running the given copy steps in order.
+     *
+     * @param steps - Method handles of type (Object source, Object target, TransformContext context)void.
+     * @param fallback - The mapper to use if a class cannot be generated for the steps.
+     * @return GeneratedMapper - The generated mapper, or the fallback.
+     */
+    static GeneratedMapper generate(MethodHandle[] steps, GeneratedMapper fallback) {
+        if (Objects.isNull(DEFINE_HIDDEN_CLASS) || steps.length > MAX_GENERATED_COPIES) {
+            return fallback;
+        }
+        String name = MAPPER_NAME + COUNTER.incrementAndGet();
+        PENDING.put(name, steps);
+        try {
+            MethodHandles.Lookup lookup = define(writeClass(name, steps.length));
+            return (GeneratedMapper) lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class)).invoke();
+        } catch (LinkageError ex) {
+            LOGGER.log(System.Logger.Level.ERROR, "Generated mapper " + name + " is not a valid class, the plan is applied without it.", ex);
+            return fallback;
+        } catch (Throwable ex) {
+            LOGGER.log(System.Logger.Level.WARNING, "Could not generate mapper " + name + ", the plan is applied without it.", ex);
+            return fallback;
+        } finally {
+            PENDING.remove(name);
+        }
+    }
+
+    /**
+     * Called from the static initializer of a generated mapper to retrieve its method handles.
+     */
+    static MethodHandle[] takeHandles(String name) {
+        return PENDING.get(name);
+    }
+
+    private static MethodHandles.Lookup define(byte[] bytes) throws Throwable {
+        try {
+            return (MethodHandles.Lookup) DEFINE_HIDDEN_CLASS.invoke(MethodHandles.lookup(), bytes, true, NO_CLASS_OPTIONS);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private static byte[] writeClass(String name, int handleCount) throws IOException {
+        ConstantPool pool = new ConstantPool();
+        int thisClass = pool.classRef(name);
+        int objectClass = pool.classRef("java/lang/Object");
+        int mapperInterface = pool.classRef("com/forlazydevs/transformer/plan/GeneratedMapper");
+        int objectInit = pool.methodRef(objectClass, "<init>", "()V");
+        int takeHandles = pool.methodRef(pool.classRef("com/forlazydevs/transformer/plan/MapperGenerator"), "takeHandles", "(Ljava/lang/String;)[Ljava/lang/invoke/MethodHandle;");
+        int invokeExact = pool.methodRef(pool.classRef("java/lang/invoke/MethodHandle"), "invokeExact", STEP_DESCRIPTOR);
+        int nameConstant = pool.string(name);
+        int[] handleNames = new int[handleCount];
+        int[] handleFields = new int[handleCount];
+        for (int i = 0; i < handleCount; i++) {
+            handleNames[i] = pool.utf8("h" + i);
+            handleFields[i] = pool.fieldRef(thisClass, "h" + i, HANDLE_DESCRIPTOR);
+        }
+
+        // public GeneratedMapper$N() { super(); }
+        Code init = new Code();
+        init.op(0x2a).op(0xb7).u2(objectInit).op(0xb1);
+
+        // static { MethodHandle[] handles = MapperGenerator.takeHandles(name); h0 = handles[0]; ... }
+        Code clinit = new Code();
+        clinit.op(0x13).u2(nameConstant).op(0xb8).u2(takeHandles).op(0x4b);
+        for (int i = 0; i < handleCount; i++) {
+            clinit.op(0x2a).op(0x11).u2(i).op(0x32).op(0xb3).u2(handleFields[i]);
+        }
+        clinit.op(0xb1);
+
+        // public void map(Object source, Object target, TransformContext context) { h0.invokeExact(source, target, context); ... }
+        Code map = new Code();
+        for (int i = 0; i < handleCount; i++) {
+            map.op(0xb2).u2(handleFields[i]).op(0x2b).op(0x2c).op(0x2d).op(0xb6).u2(invokeExact);
+        }
+        map.op(0xb1);
+
+        List<MethodInfo> methods = new ArrayList<MethodInfo>();
+        methods.add(new MethodInfo(0x0001, pool.utf8("<init>"), pool.utf8("()V"), init, 1, 1));
+        methods.add(new MethodInfo(0x0008, pool.utf8("<clinit>"), pool.utf8("()V"), clinit, 2, 1));
+        methods.add(new MethodInfo(0x0001, pool.utf8("map"), pool.utf8(STEP_DESCRIPTOR), map, 4, 4));
+        int codeAttribute = pool.utf8("Code");
+        int handleDescriptor = pool.utf8(HANDLE_DESCRIPTOR);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(0xCAFEBABE);
+        out.writeShort(0);
+        out.writeShort(55);
+        pool.writeTo(out);
+        out.writeShort(0x0031);
+        out.writeShort(thisClass);
+        out.writeShort(objectClass);
+        out.writeShort(1);
+        out.writeShort(mapperInterface);
+        out.writeShort(handleCount);
+        for (int i = 0; i < handleCount; i++) {
+            out.writeShort(0x001A);
+            out.writeShort(handleNames[i]);
+            out.writeShort(handleDescriptor);
+            out.writeShort(0);
+        }
+        out.writeShort(methods.size());
+        for (MethodInfo method : methods) {
+            method.writeTo(out, codeAttribute);
+        }
+        out.writeShort(0);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static final class ConstantPool {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(this.bytes);
+        private final Map<String, Integer> entries = new HashMap<String, Integer>();
+        private int count = 0;
+
+        int utf8(String value) throws IOException {
+            Integer index = this.entries.get("U" + value);
+            if (!Objects.isNull(index)) {
+                return index;
+            }
+            this.out.writeByte(1);
+            this.out.writeUTF(value);
+            return register("U" + value);
+        }
+
+        int classRef(String internalName) throws IOException {
+            return entry(7, utf8(internalName), -1);
+        }
+
+        int string(String value) throws IOException {
+            return entry(8, utf8(value), -1);
+        }
+
+        int fieldRef(int owner, String name, String descriptor) throws IOException {
+            return entry(9, owner, nameAndType(name, descriptor));
+        }
+
+        int methodRef(int owner, String name, String descriptor) throws IOException {
+            return entry(10, owner, nameAndType(name, descriptor));
+        }
+
+        private int nameAndType(String name, String descriptor) throws IOException {
+            return entry(12, utf8(name), utf8(descriptor));
+        }
+
+        private int entry(int tag, int first, int second) throws IOException {
+            String key = tag + ":" + first + ":" + second;
+            Integer index = this.entries.get(key);
+            if (!Objects.isNull(index)) {
+                return index;
+            }
+            this.out.writeByte(tag);
+            this.out.writeShort(first);
+            if (second >= 0) {
+                this.out.writeShort(second);
+            }
+            return register(key);
+        }
+
+        private int register(String key) {
+            this.count++;
+            this.entries.put(key, this.count);
+            return this.count;
+        }
+
+        void writeTo(DataOutputStream target) throws IOException {
+            this.out.flush();
+            target.writeShort(this.count + 1);
+            this.bytes.writeTo(target);
+        }
+    }
+
+    private static final class Code {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        Code op(int opcode) {
+            this.bytes.write(opcode);
+            return this;
+        }
+
+        Code u2(int value) {
+            this.bytes.write(value >>> 8);
+            this.bytes.write(value);
+            return this;
+        }
+
+        byte[] toByteArray() {
+            return this.bytes.toByteArray();
+        }
+    }
+
+    private static final class MethodInfo {
+        private final int access;
+        private final int name;
+        private final int descriptor;
+        private final Code code;
+        private final int maxStack;
+        private final int maxLocals;
+
+        MethodInfo(int access, int name, int descriptor, Code code, int maxStack, int maxLocals) {
+            this.access = access;
+            this.name = name;
+            this.descriptor = descriptor;
+            this.code = code;
+            this.maxStack = maxStack;
+            this.maxLocals = maxLocals;
+        }
+
+        void writeTo(DataOutputStream out, int codeAttribute) throws IOException {
+            byte[] instructions = this.code.toByteArray();
+            out.writeShort(this.access);
+            out.writeShort(this.name);
+            out.writeShort(this.descriptor);
+            out.writeShort(1);
+            out.writeShort(codeAttribute);
+            out.writeInt(12 + instructions.length);
+            out.writeShort(this.maxStack);
+            out.writeShort(this.maxLocals);
+            out.writeInt(instructions.length);
+            out.write(instructions);
+            out.writeShort(0);
+            out.writeShort(0);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.forlazydevs.transformer.plan;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import com.forlazydevs.transformer.convert.ConverterRegistry;
+import com.forlazydevs.transformer.exceptions.TransformerException;
+import com.forlazydevs.transformer.rulebook.CompiledRulebook;
+
+/**
+ * Finds the problems of a transformation from the declared types of the fields, without transforming anything.
+ * Composed fields are followed into the transformations they resolve to, containers are only checked when their elements are transformed.
+ */
+public final class MappingValidator {
+
+    private final CompiledRulebook compiledRules;
+    private final List<String> problems = new ArrayList<String>();
+    private final Set<List<Class<?>>> visited = new HashSet<List<Class<?>>>();
+
+    private MappingValidator(CompiledRulebook compiledRules) {
+        this.compiledRules = compiledRules;
+    }
+
+    /**
+     * Validates the transformation of the source class into the target class.
+     *
+     * @param sourceClass - The class of the objects to transform.
+     * @param targetClass - The class to transform the objects into.
+     * @param compiledRules - The snapshot of the rules to apply to the transformation.
+     * @return List&lt;String&gt; - The description of every problem found, empty if the transformation is valid.
+     */
+    public static List<String> validate(Class<?> sourceClass, Class<?> targetClass, CompiledRulebook compiledRules) {
+        MappingValidator validator = new MappingValidator(compiledRules);
+        validator.check(sourceClass, targetClass, "");
+        return validator.problems;
+    }
+
+    private void check(Class<?> sourceClass, Class<?> targetClass, String path) {
+        if (!this.visited.add(List.of(sourceClass, targetClass))) {
+            return;
+        }
+        if (!ClassMetadata.of(sourceClass).isTransformable()) {
+            report(path, "Class " + sourceClass.getSimpleName() + " has not been marked with @Transformable.");
+        }
+
+        ClassMetadata targetMetadata = ClassMetadata.of(targetClass);
+        boolean constructed = false;
+        try {
+            constructed = Instantiator.of(targetClass, false).takesFields();
+        } catch (TransformerException ex) {
+            report(path, ex.getMessage());
+        }
+
+        for (ClassMetadata.FieldMetadata sourceField : ClassMetadata.of(sourceClass).getInstanceFields()) {
+            ClassMetadata.FieldMetadata targetField = targetMetadata.getField(this.compiledRules.getTargetFieldName(sourceField.getName()));
+            if (Objects.isNull(targetField) || targetField.isStatic()) {
+                continue;
+            }
+            String fieldPath = path + sourceClass.getSimpleName() + "." + sourceField.getName() + ": ";
+            FieldAccessor sourceAccessor = accessor(sourceField, fieldPath);
+            FieldAccessor targetAccessor = accessor(targetField, fieldPath);
+            if (Objects.isNull(sourceAccessor) || Objects.isNull(targetAccessor)) {
+                continue;
+            }
+            if (!constructed && !targetAccessor.isWritable()) {
+                report(fieldPath, "Could not access field " + targetField.getName() + " of " + targetClass.getSimpleName() + ".");
+            }
+            checkCopy(sourceField, targetField, fieldPath);
+        }
+    }
+
+    private void checkCopy(ClassMetadata.FieldMetadata sourceField, ClassMetadata.FieldMetadata targetField, String fieldPath) {
+        Class<?> sourceType = sourceField.getField().getType();
+        Class<?> targetType = targetField.getField().getType();
+        if (sourceField.isComposed()) {
+            if (!Objects.isNull(ContainerTransform.of(sourceField.getField(), targetField.getField()))) {
+                String unsupported = ContainerTransform.unsupported(sourceField.getField(), targetField.getField());
+                if (!Objects.isNull(unsupported)) {
+                    report(fieldPath, unsupported);
+                }
+                return;
+            }
+            Class<?> composedClass = null;
+            if (this.compiledRules.hasFieldComposedRule(sourceField.getName())) {
+                composedClass = this.compiledRules.getFieldComposedRule(sourceField.getName());
+            } else if (this.compiledRules.hasClassComposedRule(sourceType)) {
+                composedClass = this.compiledRules.getClassComposedRule(sourceType);
+            }
+            if (!Objects.isNull(composedClass)) {
+                if (!targetType.isAssignableFrom(composedClass)) {
+                    report(fieldPath, "Class " + composedClass.getSimpleName() + " cannot be assigned to field " + targetField.getName() + " of type " + targetType.getSimpleName() + ".");
+                }
+                if (isConcrete(sourceType)) {
+                    check(sourceType, composedClass, fieldPath);
+                }
+                return;
+            }
+        } else if (!Objects.isNull(sourceField.getIdentityFieldName())) {
+            if (isConcrete(sourceType) && Objects.isNull(ClassMetadata.of(sourceType).getField(sourceField.getIdentityFieldName()))) {
+                report(fieldPath, "Class " + sourceType.getSimpleName() + " has no field " + sourceField.getIdentityFieldName() + " to use as identity.");
+            }
+            return;
+        }
+
+        // Composed values left alone are copied as they are, only plain copies are converted.
+        boolean converted = !sourceField.isComposed() && !Objects.isNull(ConverterRegistry.find(sourceType, targetType, this.compiledRules));
+        if (ConverterRegistry.needsConversion(sourceType, targetType) && !converted) {
+            report(fieldPath, "Type " + sourceType.getSimpleName() + " cannot be converted into field " + targetField.getName() + " of type " + targetType.getSimpleName() + ".");
+        }
+    }
+
+    private FieldAccessor accessor(ClassMetadata.FieldMetadata field, String fieldPath) {
+        try {
+            return field.getAccessor();
+        } catch (IllegalAccessException ex) {
+            report(fieldPath, "Could not access field " + field.getName() + " of " + field.getField().getDeclaringClass().getSimpleName() + ".");
+            return null;
+        }
+    }
+
+    /**
+     * Determines if values of a declared type are known to be of that class, in which case the checks on the class apply to them.
+     */
+    private static boolean isConcrete(Class<?> type) {
+        return !type.isInterface() && !type.isPrimitive() && !type.isArray() && type != Object.class && !Modifier.isAbstract(type.getModifiers());
+    }
+
+    private void report(String path, String problem) {
+        this.problems.add(path + problem);
+    }
+}
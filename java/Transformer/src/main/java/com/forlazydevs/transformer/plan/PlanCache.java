@@ -0,0 +1,265 @@
+package com.forlazydevs.transformer.plan;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.forlazydevs.transformer.EvictionPolicy;
+import com.forlazydevs.transformer.exceptions.TransformerException;
+import com.forlazydevs.transformer.jfr.PlanCompileEvent;
+import com.forlazydevs.transformer.metrics.NoopTransformerMetrics;
+import com.forlazydevs.transformer.metrics.TransformerMetrics;
+import com.forlazydevs.transformer.rulebook.CompiledRulebook;
+import com.forlazydevs.transformer.rulebook.Rulebook;
+
+/**
+ * Caches compiled transform plans per source class, target class and rules, up to a maximum number of plans.
+ * The static methods use a shared unbounded cache, engines create their own caches.
+ * Unbounded caches keep the plans of a source class in a ClassValue of that class, so the plans, along with the field accessors
+ * and method handles they hold, are released with the class instead of pinning its class loader. Bounded caches release them on eviction.
+ */
+public final class PlanCache {
+
+    /**
+     * The size of a cache that never evicts plans.
+     */
+    public static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    private static final PlanCache SHARED = new PlanCache(UNBOUNDED, EvictionPolicy.SIZE_BOUNDED);
+
+    // The plans of a bounded cache, null for an unbounded cache.
+    private final Map<PlanKey, TransformPlan<?>> plans;
+    // The plans of an unbounded cache per source class, null for a bounded cache.
+    private volatile ClassPlans classPlans;
+    private final int maximumSize;
+    private final EvictionPolicy policy;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param maximumSize - The maximum number of plans kept, {@link #UNBOUNDED} to keep every plan.
+     * @param policy - How to choose the plan evicted when the cache is full.
+     */
+    public PlanCache(int maximumSize, EvictionPolicy policy) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("The size of the plan cache must be positive.");
+        }
+        this.maximumSize = maximumSize;
+        this.policy = Objects.requireNonNull(policy);
+        if (maximumSize == UNBOUNDED) {
+            this.plans = null;
+            this.classPlans = new ClassPlans();
+        } else if (policy == EvictionPolicy.LRU) {
+            this.plans = Collections.synchronizedMap(new LinkedHashMap<PlanKey, TransformPlan<?>>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<PlanKey, TransformPlan<?>> eldest) {
+                    return size() > maximumSize;
+                }
+            });
+        } else {
+            this.plans = new ConcurrentHashMap<PlanKey, TransformPlan<?>>();
+        }
+    }
+
+    /**
+     * Retrieves the cache shared by the static methods of this class.
+     *
+     * @return PlanCache - The shared unbounded cache.
+     */
+    public static PlanCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Retrieves the plan to transform the source class into the target class from the shared cache, compiling it on first use.
+     *
+     * @param sourceClass - The class of the objects to transform.
+     * @param targetClass - The class to transform the objects into.
+     * @param rules - Rules to apply to the transformation, may be null.
+     * @return TransformPlan&lt;T&gt; - The compiled plan.
+     * @throws TransformerException - If the plan cannot be compiled.
+     */
+    public static <T> TransformPlan<T> get(Class<?> sourceClass, Class<T> targetClass, Rulebook rules) throws TransformerException {
+        return SHARED.lookup(sourceClass, targetClass, rules, NoopTransformerMetrics.INSTANCE);
+    }
+
+    /**
+     * Removes every compiled plan from the shared cache.
+     */
+    public static void clear() {
+        SHARED.evictAll();
+    }
+
+    /**
+     * Retrieves the plan to transform the source class into the target class, compiling it on first use.
+     *
+     * @param sourceClass - The class of the objects to transform.
+     * @param targetClass - The class to transform the objects into.
+     * @param rules - Rules to apply to the transformation, may be null.
+     * @param metrics - The metrics recording whether the plan was already compiled.
+     * @return TransformPlan&lt;T&gt; - The compiled plan.
+     * @throws TransformerException - If the plan cannot be compiled.
+     */
+    public <T> TransformPlan<T> lookup(Class<?> sourceClass, Class<T> targetClass, Rulebook rules, TransformerMetrics metrics) throws TransformerException {
+        return lookupCompiled(sourceClass, targetClass, Objects.isNull(rules) ? CompiledRulebook.EMPTY : rules.freeze(), metrics, true);
+    }
+
+    /**
+     * Retrieves the plan to transform the source class into the target class under a snapshot of rules, compiling it on first use.
+     * Transformations reaching other objects look up their plans with the snapshot of the top level transformation, so they all apply the same rules.
+     *
+     * @param sourceClass - The class of the objects to transform.
+     * @param targetClass - The class to transform the objects into.
+     * @param compiledRules - The snapshot of the rules to apply to the transformation.
+     * @param metrics - The metrics recording whether the plan was already compiled.
+     * @param stackTraces - False to report the failure to compile the plan without capturing its stack trace.
+     * @return TransformPlan&lt;T&gt; - The compiled plan.
+     * @throws TransformerException - If the plan cannot be compiled.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> TransformPlan<T> lookupCompiled(Class<?> sourceClass, Class<T> targetClass, CompiledRulebook compiledRules, TransformerMetrics metrics, boolean stackTraces) throws TransformerException {
+        PlanKey key = new PlanKey(sourceClass, targetClass, compiledRules);
+        Map<PlanKey, TransformPlan<?>> plans = plansOf(sourceClass);
+        TransformPlan<?> plan = plans.get(key);
+        metrics.planLookup(sourceClass, targetClass, !Objects.isNull(plan));
+        if (Objects.isNull(plan)) {
+            PlanCompileEvent event = new PlanCompileEvent();
+            event.begin();
+            try {
+                plan = TransformPlan.compile(sourceClass, targetClass, compiledRules, stackTraces);
+            } finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.set(sourceClass, targetClass, Objects.isNull(plan) ? -1 : plan.getFieldCount(), false);
+                    event.commit();
+                }
+            }
+            TransformPlan<?> existing = plans.putIfAbsent(key, plan);
+            if (!Objects.isNull(existing)) {
+                plan = existing;
+            } else if (this.policy == EvictionPolicy.SIZE_BOUNDED && plans.size() > this.maximumSize) {
+                evictOther(key);
+            }
+        }
+        return (TransformPlan<T>) plan;
+    }
+
+    private Map<PlanKey, TransformPlan<?>> plansOf(Class<?> sourceClass) {
+        return Objects.isNull(this.plans) ? this.classPlans.get(sourceClass) : this.plans;
+    }
+
+    private void evictOther(PlanKey added) {
+        Iterator<PlanKey> keys = this.plans.keySet().iterator();
+        while (keys.hasNext() && this.plans.size() > this.maximumSize) {
+            if (!keys.next().equals(added)) {
+                keys.remove();
+            }
+        }
+    }
+
+    /**
+     * Retrieves the number of plans in the cache.
+     *
+     * @return int - The number of cached plans.
+     */
+    public int size() {
+        return Objects.isNull(this.plans) ? this.classPlans.size() : this.plans.size();
+    }
+
+    /**
+     * Retrieves the maximum number of plans kept by the cache.
+     *
+     * @return int - The maximum size, {@link #UNBOUNDED} if plans are never evicted.
+     */
+    public int getMaximumSize() {
+        return this.maximumSize;
+    }
+
+    /**
+     * Retrieves how the cache chooses the plan evicted when it is full.
+     *
+     * @return EvictionPolicy - The eviction policy.
+     */
+    public EvictionPolicy getEvictionPolicy() {
+        return this.policy;
+    }
+
+    /**
+     * Removes every compiled plan from the cache.
+     */
+    public void evictAll() {
+        if (Objects.isNull(this.plans)) {
+            this.classPlans = new ClassPlans();
+        } else {
+            this.plans.clear();
+        }
+    }
+
+    /**
+     * The plans of an unbounded cache, stored with each source class. The source classes are only tracked weakly to count the plans.
+     */
+    private static final class ClassPlans extends ClassValue<Map<PlanKey, TransformPlan<?>>> {
+        private final Queue<WeakReference<Class<?>>> sourceClasses = new ConcurrentLinkedQueue<WeakReference<Class<?>>>();
+
+        @Override
+        protected Map<PlanKey, TransformPlan<?>> computeValue(Class<?> sourceClass) {
+            this.sourceClasses.add(new WeakReference<Class<?>>(sourceClass));
+            return new ConcurrentHashMap<PlanKey, TransformPlan<?>>();
+        }
+
+        int size() {
+            int size = 0;
+            Iterator<WeakReference<Class<?>>> references = this.sourceClasses.iterator();
+            while (references.hasNext()) {
+                Class<?> sourceClass = references.next().get();
+                if (Objects.isNull(sourceClass)) {
+                    references.remove();
+                } else {
+                    size += get(sourceClass).size();
+                }
+            }
+            return size;
+        }
+    }
+
+    private static final class PlanKey {
+        private final Class<?> sourceClass;
+        private final Class<?> targetClass;
+        private final CompiledRulebook rules;
+        private final int hash;
+
+        private PlanKey(Class<?> sourceClass, Class<?> targetClass, CompiledRulebook rules) {
+            this.sourceClass = sourceClass;
+            this.targetClass = targetClass;
+            this.rules = rules;
+            this.hash = (31 * (31 * sourceClass.hashCode() + targetClass.hashCode())) + rules.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PlanKey)) {
+                return false;
+            }
+            PlanKey other = (PlanKey) o;
+            return this.sourceClass == other.sourceClass
+                && this.targetClass == other.targetClass
+                && this.rules.equals(other.rules);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package com.forlazydevs.transformer.plan;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import com.forlazydevs.transformer.TransformContext;
+import com.forlazydevs.transformer.convert.ConverterRegistry;
+import com.forlazydevs.transformer.exceptions.TransformerException;
+import com.forlazydevs.transformer.jfr.PlanCompileEvent;
+import com.forlazydevs.transformer.rulebook.CompiledRulebook;
+
+/**
+ * The compiled form of a transformation from one class into another under a set of rules.
+ * All field lookups and rule resolution happen once when the plan is compiled, applying the plan only walks the resolved field copies.
+ */
+public final class TransformPlan<T> {
+
+    private final Class<?> sourceClass;
+    private final Class<T> targetClass;
+    private final FieldCopy[] copies;
+    private final Instantiator instantiator;
+    // The constructor argument of the target field of each copy, when the target is built through its constructor.
+    private final int[] slots;
+    private final CompiledRulebook compiledRules;
+    private final List<String> fieldNames;
+    private volatile GeneratedMapper mapper;
+
+    private TransformPlan(Class<?> sourceClass, Class<T> targetClass, FieldCopy[] copies, Instantiator instantiator, int[] slots, CompiledRulebook compiledRules) {
+        this.sourceClass = sourceClass;
+        this.targetClass = targetClass;
+        this.copies = copies;
+        this.instantiator = instantiator;
+        this.slots = slots;
+        this.compiledRules = compiledRules;
+        List<String> names = new ArrayList<String>(copies.length);
+        for (FieldCopy copy : copies) {
+            names.add(copy.getSourceFieldName());
+        }
+        this.fieldNames = Collections.unmodifiableList(names);
+    }
+
+    /**
+     * Compiles the plan to transform instances of the source class into the target class.
+     *
+     * @param sourceClass - The class of the objects to transform.
+     * @param targetClass - The class to transform the objects into.
+     * @param compiledRules - The snapshot of the rules to apply to the transformation.
+     * @return TransformPlan&lt;T&gt; - The compiled plan.
+     * @throws TransformerException - If the fields of either class cannot be accessed, the target class cannot be instantiated
+     * or a composed container field cannot hold the transformed values.
+     */
+    public static <T> TransformPlan<T> compile(Class<?> sourceClass, Class<T> targetClass, CompiledRulebook compiledRules) throws TransformerException {
+        return compile(sourceClass, targetClass, compiledRules, true);
+    }
+
+    /**
+     * Compiles the plan to transform instances of the source class into the target class.
+     *
+     * @param sourceClass - The class of the objects to transform.
+     * @param targetClass - The class to transform the objects into.
+     * @param compiledRules - The snapshot of the rules to apply to the transformation.
+     * @param stackTraces - False to report the failures without capturing their stack trace, reusing the failure cached for the target class.
+     * @return TransformPlan&lt;T&gt; - The compiled plan.
+     * @throws TransformerException - If the fields of either class cannot be accessed, the target class cannot be instantiated
+     * or a composed container field cannot hold the transformed values.
+     */
+    public static <T> TransformPlan<T> compile(Class<?> sourceClass, Class<T> targetClass, CompiledRulebook compiledRules, boolean stackTraces) throws TransformerException {
+        Instantiator instantiator = Instantiator.of(targetClass, stackTraces);
+        ClassMetadata targetMetadata = ClassMetadata.of(targetClass);
+        List<Field> targetInstanceFields = new ArrayList<Field>();
+        for (ClassMetadata.FieldMetadata field : targetMetadata.getInstanceFields()) {
+            targetInstanceFields.add(field.getField());
+        }
+
+        List<FieldCopy> copies = new ArrayList<FieldCopy>();
+        for (ClassMetadata.FieldMetadata sourceField : ClassMetadata.of(sourceClass).getInstanceFields()) {
+            String sourceFieldName = sourceField.getName();
+            String targetFieldName = compiledRules.getTargetFieldName(sourceFieldName);
+            ClassMetadata.FieldMetadata targetField = targetMetadata.getField(targetFieldName);
+            // If field is not in new class. skip it.
+            if (targetField == null || targetField.isStatic()) {
+                continue;
+            }
+
+            if (sourceField.isComposed()) {
+                String unsupported = ContainerTransform.unsupported(sourceField.getField(), targetField.getField());
+                if (!Objects.isNull(unsupported)) {
+                    throw new TransformerException(unsupported, null, stackTraces);
+                }
+            }
+
+            // Conversions are chosen once here and called directly when the plan is applied.
+            boolean plainCopy = !sourceField.isComposed() && Objects.isNull(sourceField.getIdentityFieldName());
+            copies.add(new FieldCopy(
+                accessor(sourceField),
+                accessor(targetField),
+                sourceField.isComposed(),
+                sourceField.isLazy(),
+                compiledRules.hasFieldComposedRule(sourceFieldName),
+                compiledRules.getFieldComposedRule(sourceFieldName),
+                sourceField.getIdentityFieldName(),
+                plainCopy ? ConverterRegistry.find(sourceField.getField().getType(), targetField.getField().getType(), compiledRules) : null));
+        }
+
+        int[] slots = new int[copies.size()];
+        for (int i = 0; i < slots.length; i++) {
+            FieldAccessor targetField = copies.get(i).getTargetField();
+            slots[i] = targetInstanceFields.indexOf(targetField.getField());
+            if (!instantiator.takesFields() && !targetField.isWritable()) {
+                throw new TransformerException("Could not access field " + targetField.getName() + " of " + targetClass.getSimpleName(), null, stackTraces);
+            }
+        }
+        return new TransformPlan<T>(sourceClass, targetClass, copies.toArray(new FieldCopy[0]), instantiator, slots, compiledRules);
+    }
+
+    private static FieldAccessor accessor(ClassMetadata.FieldMetadata field) throws TransformerException {
+        try {
+            return field.getAccessor();
+        } catch (IllegalAccessException ex) {
+            throw new TransformerException("Could not access field " + field.getName() + " of " + field.getField().getDeclaringClass().getSimpleName(), ex);
+        }
+    }
+
+    /**
+     * Determines if instances of the target class are built by passing the values of their fields to a constructor,
+     * in which case they are created with {@link #construct} instead of {@link #newInstance}.
+     *
+     * @return boolean - A flag representing if the target is built through its constructor.
+     */
+    public boolean isConstructed() {
+        return this.instantiator.takesFields();
+    }
+
+    /**
+     * Creates an empty instance of the target class with its no-args constructor.
+     *
+     * @return T - The new instance.
+     * @throws TransformerException - If the constructor fails.
+     */
+    public T newInstance() throws TransformerException {
+        try {
+            return this.targetClass.cast(this.instantiator.newInstance());
+        } catch (Throwable ex) {
+            throw new TransformerException("Could not instantiate " + this.targetClass.getSimpleName(), ex);
+        }
+    }
+
+    /**
+     * Creates an instance of the target class by passing the values of the source object to the constructor taking all of its fields.
+     *
+     * @param source - The object to transform.
+     * @param context - The context of the transformation, used to transform composed fields.
+     * @return T - The new instance.
+     * @throws Exception - If a field cannot be read, a composed field cannot be transformed or the constructor fails.
+     */
+    public T construct(Object source, TransformContext context) throws Exception {
+        Object[] arguments = this.instantiator.newArguments();
+        for (int i = 0; i < this.copies.length; i++) {
+            arguments[this.slots[i]] = this.copies[i].value(source, this.compiledRules, context);
+        }
+        try {
+            return this.targetClass.cast(this.instantiator.newInstance(arguments));
+        } catch (Exception | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Copies the values of the source object into the target object.
+     *
+     * @param source - The object to transform.
+     * @param target - The instance of the target class to populate.
+     * @param context - The context of the transformation, used to transform composed fields.
+     * @throws ReflectiveOperationException - If a field cannot be read or written.
+     * @throws TransformerException - If a composed field cannot be transformed.
+     */
+    public void apply(Object source, T target, TransformContext context) throws ReflectiveOperationException, TransformerException {
+        for (FieldCopy copy : this.copies) {
+            copy.copy(source, target, this.compiledRules, context);
+        }
+    }
+
+    /**
+     * Copies into the target object the fields of the current object that differ from the previous object, the target holding the transformation of an earlier state.
+     * Composed fields that changed are updated in place when the target already holds their transformation.
+     *
+     * @param previous - The earlier state of the object, every field is copied if it is null or of another class than the current object.
+     * @param current - The object to transform.
+     * @param target - The instance of the target class to update.
+     * @param context - The context of the transformation, used to transform composed fields.
+     * @return long[] - The bits of the copied fields, bit i standing for the field at index i of {@link #getFieldNames()}.
+     * @throws ReflectiveOperationException - If a field cannot be read or written.
+     * @throws TransformerException - If a composed field cannot be transformed.
+     */
+    public long[] applyChanges(Object previous, Object current, T target, TransformContext context) throws ReflectiveOperationException, TransformerException {
+        long[] changes = new long[(this.copies.length + 63) >>> 6];
+        Object comparable = Objects.isNull(previous) || previous.getClass() != current.getClass() ? null : previous;
+        for (int i = 0; i < this.copies.length; i++) {
+            FieldCopy copy = this.copies[i];
+            if (Objects.isNull(comparable) || copy.changed(comparable, current)) {
+                copy.copyChanged(comparable, current, target, this.compiledRules, context);
+                changes[i >>> 6] |= 1L << i;
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Copies the values of the source object into the target object through the reflected fields, with Field.get and Field.set.
+     *
+     * @param source - The object to transform.
+     * @param target - The instance of the target class to populate.
+     * @param context - The context of the transformation, used to transform composed fields.
+     * @throws ReflectiveOperationException - If a field cannot be read or written.
+     * @throws TransformerException - If a composed field cannot be transformed.
+     */
+    public void applyReflective(Object source, T target, TransformContext context) throws ReflectiveOperationException, TransformerException {
+        for (FieldCopy copy : this.copies) {
+            copy.copyReflective(source, target, this.compiledRules, context);
+        }
+    }
+
+    /**
+     * Copies the values of the source object into the target object with a mapper class generated for this plan.
+     * The mapper is generated on first use, if it cannot be generated the plan is applied as with {@link #apply}.
+     *
+     * @param source - The object to transform.
+     * @param target - The instance of the target class to populate.
+     * @param context - The context of the transformation, used to transform composed fields.
+     * @throws Exception - If a field cannot be read or written or a composed field cannot be transformed.
+     */
+    public void applyGenerated(Object source, T target, TransformContext context) throws Exception {
+        GeneratedMapper mapper = this.mapper;
+        if (Objects.isNull(mapper)) {
+            mapper = generateMapper();
+        }
+        mapper.map(source, target, context);
+    }
+
+    /**
+     * Generates the bytecode mapper used by {@link #applyGenerated(Object, Object, TransformContext)} ahead of its first use.
+     */
+    public void generate() {
+        if (Objects.isNull(this.mapper)) {
+            generateMapper();
+        }
+    }
+
+    private synchronized GeneratedMapper generateMapper() {
+        if (Objects.isNull(this.mapper)) {
+            PlanCompileEvent event = new PlanCompileEvent();
+            event.begin();
+            MethodHandle[] steps = new MethodHandle[this.copies.length];
+            for (int i = 0; i < steps.length; i++) {
+                steps[i] = this.copies[i].toHandle(this.compiledRules);
+            }
+            this.mapper = MapperGenerator.generate(steps, (source, target, context) -> apply(source, this.targetClass.cast(target), context));
+            event.end();
+            if (event.shouldCommit()) {
+                event.set(this.sourceClass, this.targetClass, this.copies.length, true);
+                event.commit();
+            }
+        }
+        return this.mapper;
+    }
+
+    /**
+     * Retrieves the class of the objects this plan transforms.
+     *
+     * @return Class&lt;?&gt; - The source class.
+     */
+    public Class<?> getSourceClass() {
+        return this.sourceClass;
+    }
+
+    /**
+     * Retrieves the class this plan transforms objects into.
+     *
+     * @return Class&lt;T&gt; - The target class.
+     */
+    public Class<T> getTargetClass() {
+        return this.targetClass;
+    }
+
+    /**
+     * Retrieves the snapshot of the rules this plan was compiled with.
+     *
+     * @return CompiledRulebook - The rules of the plan.
+     */
+    public CompiledRulebook getCompiledRules() {
+        return this.compiledRules;
+    }
+
+    /**
+     * Retrieves the names of the fields of the source class copied by this plan.
+     *
+     * @return List&lt;String&gt; - An unmodifiable list of the field names, in declaration order.
+     */
+    public List<String> getFieldNames() {
+        return this.fieldNames;
+    }
+
+    /**
+     * Retrieves the number of fields copied by this plan.
+     *
+     * @return int - The number of field copies.
+     */
+    public int getFieldCount() {
+        return this.copies.length;
+    }
+}
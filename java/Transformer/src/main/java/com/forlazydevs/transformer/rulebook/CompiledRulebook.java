@@ -0,0 +1,185 @@
+package com.forlazydevs.transformer.rulebook;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import com.forlazydevs.transformer.convert.Conversion;
+import com.forlazydevs.transformer.convert.TypeConverter;
+
+/**
+ * An immutable snapshot of the rules of a {@link Rulebook}, with the composed transform rules split into lookup tables by field name and by class.
+ * Snapshots compare by content, so two rule books holding the same rules share compiled transformations.
+ * Each snapshot of a rule book carries the version of the rule book it was taken from, which is not part of the comparison.
+ */
+public final class CompiledRulebook {
+
+    /**
+     * The snapshot of a rule book without rules.
+     */
+    public static final CompiledRulebook EMPTY = new CompiledRulebook(Map.of(), Map.of(), Map.of(), 0L);
+
+    private final Map<String, String> fieldNameRules;
+    private final Map<Object, Class<?>> composedRules;
+    private final Map<String, Class<?>> fieldComposedRules;
+    private final Map<Class<?>, Class<?>> classComposedRules;
+    private final Map<Conversion, TypeConverter<?, ?>> converters;
+    private final int hash;
+    private final long version;
+
+    CompiledRulebook(Map<String, String> fieldNameRules, Map<Object, Class<?>> composedRules, Map<Conversion, TypeConverter<?, ?>> converters, long version) {
+        Map<String, Class<?>> fieldComposedRules = new HashMap<String, Class<?>>();
+        Map<Class<?>, Class<?>> classComposedRules = new HashMap<Class<?>, Class<?>>();
+        for (Map.Entry<Object, Class<?>> rule : composedRules.entrySet()) {
+            if (rule.getKey() instanceof String) {
+                fieldComposedRules.put((String) rule.getKey(), rule.getValue());
+            } else {
+                classComposedRules.put((Class<?>) rule.getKey(), rule.getValue());
+            }
+        }
+        // Composed rules may map to null to leave a value alone, which Map.copyOf does not allow.
+        this.fieldNameRules = Collections.unmodifiableMap(new HashMap<String, String>(fieldNameRules));
+        this.composedRules = Collections.unmodifiableMap(new HashMap<Object, Class<?>>(composedRules));
+        this.fieldComposedRules = Collections.unmodifiableMap(fieldComposedRules);
+        this.classComposedRules = Collections.unmodifiableMap(classComposedRules);
+        // Kept in registration order, which decides between converters that could both complete a chain of conversions.
+        this.converters = Collections.unmodifiableMap(new LinkedHashMap<Conversion, TypeConverter<?, ?>>(converters));
+        this.hash = Objects.hash(this.fieldNameRules, this.composedRules, this.converters);
+        this.version = version;
+    }
+
+    /**
+     * Creates the snapshot following this one, holding the given rules.
+     */
+    CompiledRulebook next(Map<String, String> fieldNameRules, Map<Object, Class<?>> composedRules, Map<Conversion, TypeConverter<?, ?>> converters) {
+        return new CompiledRulebook(fieldNameRules, composedRules, converters, this.version + 1);
+    }
+
+    /**
+     * Retrieves the version of the rule book the snapshot was taken from. Versions increase with every change of the rule book.
+     *
+     * @return long - The version of the rules, 0 for a rule book that has never changed.
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Retrieves the name of the field a field is copied into.
+     *
+     * @param fieldName - The name of the field in the object to transform.
+     * @return String - The name of the field in the transformed object.
+     */
+    public String getTargetFieldName(String fieldName) {
+        return this.fieldNameRules.getOrDefault(fieldName, fieldName);
+    }
+
+    /**
+     * Determines if a composed transform rule is set for the field.
+     *
+     * @param fieldName - The name of the field in the object to transform.
+     * @return boolean - A flag representing if a rule is set for the field.
+     */
+    public boolean hasFieldComposedRule(String fieldName) {
+        return this.fieldComposedRules.containsKey(fieldName);
+    }
+
+    /**
+     * Retrieves the class the field is transformed into.
+     *
+     * @param fieldName - The name of the field in the object to transform.
+     * @return Class&lt;?&gt; - The class to transform the field into, null if the value is left alone or no rule is set.
+     */
+    public Class<?> getFieldComposedRule(String fieldName) {
+        return this.fieldComposedRules.get(fieldName);
+    }
+
+    /**
+     * Determines if a composed transform rule is set for values of the class.
+     *
+     * @param valueClass - The class of the value of the field.
+     * @return boolean - A flag representing if a rule is set for the class.
+     */
+    public boolean hasClassComposedRule(Class<?> valueClass) {
+        return this.classComposedRules.containsKey(valueClass);
+    }
+
+    /**
+     * Retrieves the class values of the class are transformed into.
+     *
+     * @param valueClass - The class of the value of the field.
+     * @return Class&lt;?&gt; - The class to transform the value into, null if the value is left alone or no rule is set.
+     */
+    public Class<?> getClassComposedRule(Class<?> valueClass) {
+        return this.classComposedRules.get(valueClass);
+    }
+
+    /**
+     * Retrieves the field name rules of the snapshot.
+     *
+     * @return Map&lt;String, String&gt; - An unmodifiable map of the field name rules.
+     */
+    public Map<String, String> getFieldNameRules() {
+        return this.fieldNameRules;
+    }
+
+    /**
+     * Retrieves the composed transform rules of the snapshot.
+     *
+     * @return Map&lt;Object, Class&lt;?&gt;&gt; - An unmodifiable map of the composed transform rules.
+     */
+    public Map<Object, Class<?>> getComposedRules() {
+        return this.composedRules;
+    }
+
+    /**
+     * Retrieves the converter registered for a pair of field types.
+     *
+     * @param sourceType - The type of the field of the object to transform.
+     * @param targetType - The type of the field of the transformed object.
+     * @return TypeConverter&lt;?, ?&gt; - The converter, null if none is registered for the types.
+     */
+    public TypeConverter<?, ?> getConverter(Class<?> sourceType, Class<?> targetType) {
+        return this.converters.isEmpty() ? null : this.converters.get(Conversion.of(sourceType, targetType));
+    }
+
+    /**
+     * Retrieves the converters of the snapshot.
+     *
+     * @return Map&lt;Conversion, TypeConverter&lt;?, ?&gt;&gt; - An unmodifiable map of the converters, in registration order.
+     */
+    public Map<Conversion, TypeConverter<?, ?>> getConverters() {
+        return this.converters;
+    }
+
+    /**
+     * Determines if the snapshot has no rules.
+     *
+     * @return boolean - A flag representing if the snapshot has no rules.
+     */
+    public boolean isEmpty() {
+        return this.fieldNameRules.isEmpty() && this.composedRules.isEmpty() && this.converters.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CompiledRulebook)) {
+            return false;
+        }
+        CompiledRulebook other = (CompiledRulebook) o;
+        return this.hash == other.hash
+            && this.fieldNameRules.equals(other.fieldNameRules)
+            && this.composedRules.equals(other.composedRules)
+            && this.converters.equals(other.converters);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+}
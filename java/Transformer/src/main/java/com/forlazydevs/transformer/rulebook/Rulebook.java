@@ -1,14 +1,20 @@
 package com.forlazydevs.transformer.rulebook;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 
+import com.forlazydevs.transformer.convert.Conversion;
+import com.forlazydevs.transformer.convert.TypeConverter;
 import com.forlazydevs.transformer.exceptions.TransformerException;
 
 public class Rulebook {
 
-    private Map<String, String> fieldNameRules;
-    private Map<Object, Class<?>> composedTransformRules;
+    // Every change publishes a new immutable snapshot, readers never lock nor copy and always see a complete set of rules.
+    private final AtomicReference<CompiledRulebook> snapshot = new AtomicReference<CompiledRulebook>(CompiledRulebook.EMPTY);
     
     /** 
      * Adds composed transform rules to the rule book for the transformation.
@@ -18,12 +24,12 @@ public class Rulebook {
      */
     public void addComposedTransformRules(Map<Object, Class<?>> composedTransformRules) throws TransformerException {
         validateComposedTransformRules(composedTransformRules);
-        if (!hasComposedRules()) {
-            this.composedTransformRules = composedTransformRules;
-        }
-        else {
-            this.composedTransformRules.putAll(composedTransformRules);
-        }
+        Map<Object, Class<?>> added = new HashMap<Object, Class<?>>(composedTransformRules);
+        update(current -> {
+            Map<Object, Class<?>> rules = new HashMap<Object, Class<?>>(current.getComposedRules());
+            rules.putAll(added);
+            return current.next(current.getFieldNameRules(), rules, current.getConverters());
+        });
    }
 
     /** 
@@ -32,58 +38,118 @@ public class Rulebook {
      * @param fieldNameRules - A Map of strings where the key represents the field name in the object to transform and the value represents the field name in the class you want to transform the key into.
      */
     public void addFieldNameRules(Map<String, String> fieldNameRules) {
-        if (!hasFieldRules()){
-            this.fieldNameRules = fieldNameRules;
-        }
-        else {
-            this.fieldNameRules.putAll(fieldNameRules);
-        }
+        Map<String, String> added = new HashMap<String, String>(fieldNameRules);
+        update(current -> {
+            Map<String, String> rules = new HashMap<String, String>(current.getFieldNameRules());
+            rules.putAll(added);
+            return current.next(rules, current.getComposedRules(), current.getConverters());
+        });
    }
 
+    /**
+     * Adds a converter to the rule book, used to copy fields of the source type into fields of the target type.
+     * It replaces any converter registered for the same types and takes precedence over the built-in conversions.
+     *
+     * @param sourceType - The type of the field in the object to transform, a primitive type and its wrapper are the same.
+     * @param targetType - The type of the field in the transformed object, a primitive type and its wrapper are the same.
+     * @param converter - The converter, never called with null values.
+     */
+    public <S, T> void addConverter(Class<S> sourceType, Class<T> targetType, TypeConverter<? super S, ? extends T> converter) {
+        Conversion conversion = Conversion.of(sourceType, targetType);
+        Objects.requireNonNull(converter);
+        update(current -> {
+            Map<Conversion, TypeConverter<?, ?>> converters = new LinkedHashMap<Conversion, TypeConverter<?, ?>>(current.getConverters());
+            converters.put(conversion, converter);
+            return current.next(current.getFieldNameRules(), current.getComposedRules(), converters);
+        });
+    }
+
    /**
     * Clears the composed transform rules from the rule book.
     */
    public void clearComposedTransformRules() {
-       if (hasComposedRules()) {
-           this.composedTransformRules.clear();
-       }
+       update(current -> current.getComposedRules().isEmpty() ? current : current.next(current.getFieldNameRules(), Map.of(), current.getConverters()));
    }
 
+    /**
+     * Clears the converters from the rule book.
+     */
+    public void clearConverters() {
+        update(current -> current.getConverters().isEmpty() ? current : current.next(current.getFieldNameRules(), current.getComposedRules(), Map.of()));
+    }
+
     /**
      * Clears the field name rules from the rule book.
      */
     public void clearFieldNameRules() {
-        if (hasFieldRules()) {
-            this.fieldNameRules.clear();
-        }
+        update(current -> current.getFieldNameRules().isEmpty() ? current : current.next(Map.of(), current.getComposedRules(), current.getConverters()));
     }
 
-   
+   /**
+    * Retrieves the immutable snapshot of the rules of the rule book, indexed for lookups during transformations.
+    * Every change publishes a new snapshot, so repeated calls on an unchanged rule book return the same instance.
+    *
+    * @return CompiledRulebook - The snapshot of the current rules.
+    */
+   public CompiledRulebook freeze() {
+       return this.snapshot.get();
+   }
+
+   /**
+    * Retrieves the version of the rules, which increases with every change. Anything derived from the rules can be checked against it.
+    *
+    * @return long - The current version, 0 for a rule book that has never changed.
+    */
+   public long getVersion() {
+       return this.snapshot.get().getVersion();
+   }
+
+   /**
+    * Publishes the snapshot derived from the current one, deriving it again if another change was published meanwhile.
+    */
+   private void update(UnaryOperator<CompiledRulebook> change) {
+       CompiledRulebook current;
+       CompiledRulebook next;
+       do {
+           current = this.snapshot.get();
+           next = change.apply(current);
+       } while (current != next && !this.snapshot.compareAndSet(current, next));
+   }
+
    /** 
     * Retrieves the composed transform rules from the rule book.
     *
-    * @return Map&lt;Object, Class&lt;?&gt;&gt; - Returns the map of composed transform rules from the rule book.
+    * @return Map&lt;Object, Class&lt;?&gt;&gt; - Returns an unmodifiable map of the composed transform rules from the rule book.
     */
    public Map<Object, Class<?>> getComposedRules() {
-       return Map.copyOf(this.composedTransformRules);
+       return this.snapshot.get().getComposedRules();
    }
 
    /** 
      * Retrieves the field name rules from the rule book.
-     * @return Map&lt;String, String&gt; - Returns the map of field name rules from the rule book.
+     * @return Map&lt;String, String&gt; - Returns an unmodifiable map of the field name rules from the rule book.
      */
     public Map<String, String> getFieldNameRules() {
-        return Map.copyOf(this.fieldNameRules);
+        return this.snapshot.get().getFieldNameRules();
     }
 
    
+   /**
+    * Retrieves the converters from the rule book.
+    *
+    * @return Map&lt;Conversion, TypeConverter&lt;?, ?&gt;&gt; - Returns an unmodifiable map of the converters from the rule book, in registration order.
+    */
+   public Map<Conversion, TypeConverter<?, ?>> getConverters() {
+       return this.snapshot.get().getConverters();
+   }
+
    /** 
     * Determines if the rule book has composed transform rules.
     *
     * @return boolean - A flag representing if the rule book has composed transform rules.
     */
    public boolean hasComposedRules() {
-        return this.composedTransformRules != null && !this.composedTransformRules.isEmpty();
+        return !this.snapshot.get().getComposedRules().isEmpty();
     }
 
     /** 
@@ -92,7 +158,16 @@ public class Rulebook {
      * @return boolean - A flag representing if the rule book has field name rules.
      */
     public boolean hasFieldRules() {
-        return this.fieldNameRules != null && !this.fieldNameRules.isEmpty();
+        return !this.snapshot.get().getFieldNameRules().isEmpty();
+    }
+
+    /**
+     * Determines if the rule book has converters.
+     *
+     * @return boolean - A flag representing if the rule book has converters.
+     */
+    public boolean hasConverters() {
+        return !this.snapshot.get().getConverters().isEmpty();
     }
 
    /** 
@@ -103,13 +178,8 @@ public class Rulebook {
     */
    public void resetComposedTransformRules(Map<Object, Class<?>> composedTransformRules) throws TransformerException {
         validateComposedTransformRules(composedTransformRules);
-       if (!hasComposedRules()) {
-           this.composedTransformRules = composedTransformRules;
-       }
-       else {
-           this.composedTransformRules.clear();
-           this.composedTransformRules.putAll(composedTransformRules);
-       }
+       Map<Object, Class<?>> rules = new HashMap<Object, Class<?>>(composedTransformRules);
+       update(current -> current.next(current.getFieldNameRules(), rules, current.getConverters()));
    }
     
     /** 
@@ -118,13 +188,8 @@ public class Rulebook {
      * @param fieldNameRules - A Map of strings where the key represents the field name in the object to transform and the value represents the field name in the class you want to transform the key into.
      */
     public void resetFieldNameRules(Map<String, String> fieldNameRules) {
-        if (!hasFieldRules()) {
-            this.fieldNameRules = fieldNameRules;
-        }
-        else {
-            this.fieldNameRules.clear();
-            this.fieldNameRules.putAll(fieldNameRules);
-        }
+        Map<String, String> rules = new HashMap<String, String>(fieldNameRules);
+        update(current -> current.next(rules, current.getComposedRules(), current.getConverters()));
     }
 
     private void validateComposedTransformRules(Map<Object, Class<?>> composedTransformRules) throws TransformerException {
@@ -0,0 +1,115 @@
+package com.forlazydevs.transformer.spi;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+
+/**
+ * Registry of the {@link TransformMapper} implementations available through the {@link ServiceLoader}.
+ * The mappers visible from a class loader are loaded once into an index, and each source class keeps the index of its loader in a ClassValue,
+ * so mappers are found for classes of any loader and are released together with the classes they transform.
+ */
+public final class MapperRegistry {
+
+    private static final System.Logger LOGGER = System.getLogger(MapperRegistry.class.getName());
+    private static final MapperIndex NO_MAPPERS = new MapperIndex(Collections.emptyMap());
+
+    // The index of each loader, only weakly held so the source classes sharing it are the ones keeping it.
+    private static final Map<ClassLoader, WeakReference<MapperIndex>> INDEXES = new WeakHashMap<ClassLoader, WeakReference<MapperIndex>>();
+    private static volatile ClassValue<MapperIndex> mappers = newMappers();
+
+    private MapperRegistry() {}
+
+    /**
+     * Retrieves the mapper transforming the source class into the target class.
+     *
+     * @param sourceClass - The class of the object to transform.
+     * @param targetClass - The class to transform the object into.
+     * @return TransformMapper&lt;Object, T&gt; - The mapper, or null if no mapper was generated for the classes.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TransformMapper<Object, T> find(Class<?> sourceClass, Class<T> targetClass) {
+        Map<Class<?>, TransformMapper<?, ?>> sourceMappers = mappers.get(sourceClass).mappers.get(sourceClass);
+        if (Objects.isNull(sourceMappers)) {
+            return null;
+        }
+        return (TransformMapper<Object, T>) sourceMappers.get(targetClass);
+    }
+
+    /**
+     * Discards the loaded mappers, they are loaded again on the next lookup.
+     */
+    public static void reload() {
+        synchronized (INDEXES) {
+            INDEXES.clear();
+        }
+        mappers = newMappers();
+    }
+
+    private static ClassValue<MapperIndex> newMappers() {
+        return new ClassValue<MapperIndex>() {
+            @Override
+            protected MapperIndex computeValue(Class<?> sourceClass) {
+                return indexOf(sourceClass.getClassLoader());
+            }
+        };
+    }
+
+    private static MapperIndex indexOf(ClassLoader loader) {
+        if (Objects.isNull(loader)) {
+            return NO_MAPPERS;
+        }
+        synchronized (INDEXES) {
+            WeakReference<MapperIndex> reference = INDEXES.get(loader);
+            MapperIndex index = Objects.isNull(reference) ? null : reference.get();
+            if (Objects.isNull(index)) {
+                index = load(loader);
+                INDEXES.put(loader, new WeakReference<MapperIndex>(index));
+            }
+            return index;
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static MapperIndex load(ClassLoader loader) {
+        Map<Class<?>, Map<Class<?>, TransformMapper<?, ?>>> loaded = new HashMap<Class<?>, Map<Class<?>, TransformMapper<?, ?>>>();
+        Iterator<TransformMapper> providers = ServiceLoader.load(TransformMapper.class, loader).iterator();
+        while (true) {
+            try {
+                if (!providers.hasNext()) {
+                    break;
+                }
+            } catch (ServiceConfigurationError err) {
+                // The registrations cannot be read any further, the remaining pairs are transformed reflectively.
+                LOGGER.log(System.Logger.Level.WARNING, "Could not look up further mappers", err);
+                break;
+            }
+            try {
+                TransformMapper<?, ?> mapper = providers.next();
+                loaded.computeIfAbsent(mapper.getSourceClass(), key -> new HashMap<Class<?>, TransformMapper<?, ?>>())
+                    .put(mapper.getTargetClass(), mapper);
+            } catch (ServiceConfigurationError err) {
+                // A broken registration only disables its own mapper.
+                LOGGER.log(System.Logger.Level.WARNING, "Skipping a mapper that could not be loaded", err);
+            }
+        }
+        return loaded.isEmpty() ? NO_MAPPERS : new MapperIndex(loaded);
+    }
+
+    /**
+     * The mappers visible from a class loader, by source class and target class.
+     */
+    private static final class MapperIndex {
+        private final Map<Class<?>, Map<Class<?>, TransformMapper<?, ?>>> mappers;
+
+        private MapperIndex(Map<Class<?>, Map<Class<?>, TransformMapper<?, ?>>> mappers) {
+            this.mappers = mappers;
+        }
+    }
+}
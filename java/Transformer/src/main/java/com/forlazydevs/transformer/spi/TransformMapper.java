@@ -0,0 +1,34 @@
+package com.forlazydevs.transformer.spi;
+
+import com.forlazydevs.transformer.exceptions.TransformerException;
+
+/**
+ * A mapper transforming instances of one class into another without reflection.
+ * Implementations are generated at compile time by the transformer-processor annotation processor and are found with a {@link java.util.ServiceLoader} on the class loader of the source class.
+ * Mappers are only used for transformations without rules.
+ */
+public interface TransformMapper<S, T> {
+
+    /**
+     * Retrieves the class of the objects this mapper transforms.
+     *
+     * @return Class&lt;S&gt; - The source class.
+     */
+    Class<S> getSourceClass();
+
+    /**
+     * Retrieves the class this mapper transforms objects into.
+     *
+     * @return Class&lt;T&gt; - The target class.
+     */
+    Class<T> getTargetClass();
+
+    /**
+     * Transforms an object into a new instance of the target class.
+     *
+     * @param source - The object to transform.
+     * @return T - A new instance of the target class.
+     * @throws TransformerException - If the mapper cannot transform the object.
+     */
+    T transform(S source) throws TransformerException;
+}
@@ -0,0 +1,176 @@
+package com.forlazydevs.transformer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.forlazydevs.transformer.exceptions.TransformerException;
+import com.forlazydevs.transformer.metrics.TransformerMetrics;
+import com.forlazydevs.transformer.testclasses.TestClass1;
+import com.forlazydevs.transformer.testclasses.TestClass4;
+import com.forlazydevs.transformer.testclasses.TestClass5;
+
+import org.junit.Test;
+
+public class TransformProcessorTest {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    @Test
+    public void testHonoursDownstreamDemand() throws Exception {
+        TransformProcessor<TestClass4, TestClass5> processor = new TransformProcessor<TestClass4, TestClass5>(TestClass5.class, null, DIRECT, 2, 4);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        processor.subscribe(subscriber);
+        try (SubmissionPublisher<TestClass4> publisher = new SubmissionPublisher<TestClass4>(DIRECT, 16)) {
+            publisher.subscribe(processor);
+            for (int i = 0; i < 10; i++) {
+                publisher.submit(new TestClass4(i, true));
+            }
+
+            assertEquals(0, subscriber.received.size());
+            subscriber.subscription.request(3);
+            assertEquals(3, subscriber.received.size());
+            assertEquals(2, subscriber.received.get(2).getFieldOne());
+
+            subscriber.subscription.request(Long.MAX_VALUE);
+            assertEquals(10, subscriber.received.size());
+        }
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void testBatchesItemsPerTask() throws Exception {
+        AtomicInteger tasks = new AtomicInteger();
+        Executor counting = task -> {
+            tasks.incrementAndGet();
+            task.run();
+        };
+        TransformProcessor<TestClass4, TestClass5> processor = new TransformProcessor<TestClass4, TestClass5>(TestClass5.class, null, counting, 3, 16);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        processor.subscribe(subscriber);
+        processor.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {}
+
+            @Override
+            public void cancel() {}
+        });
+        for (int i = 0; i < 9; i++) {
+            processor.onNext(new TestClass4(i, true));
+        }
+        tasks.set(0);
+        subscriber.subscription.request(9);
+        assertEquals(9, subscriber.received.size());
+        assertTrue(tasks.get() >= 3);
+    }
+
+    @Test
+    public void testSignalsTransformerException() throws Exception {
+        TransformProcessor<Object, TestClass5> processor = new TransformProcessor<Object, TestClass5>(TestClass5.class, null, DIRECT, 2, 4);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        processor.subscribe(subscriber);
+        boolean[] cancelled = { false };
+        processor.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {}
+
+            @Override
+            public void cancel() {
+                cancelled[0] = true;
+            }
+        });
+        subscriber.subscription.request(Long.MAX_VALUE);
+        processor.onNext(new TestClass4(1, true));
+        processor.onNext(new TestClass1());
+        assertEquals(1, subscriber.received.size());
+        assertTrue(subscriber.error instanceof TransformerException);
+        assertTrue(cancelled[0]);
+    }
+
+    @Test
+    public void testSignalsOtherExceptionsOfTheTransformation() throws Exception {
+        TransformerEngine engine = TransformerEngine.builder().metrics(new TransformerMetrics() {
+            @Override
+            public void transformed(Class<?> sourceClass, Class<?> targetClass, long nanos, int fieldsCopied) {
+                throw new IllegalStateException("metrics unavailable");
+            }
+        }).build();
+        TransformProcessor<TestClass4, TestClass5> processor = new TransformProcessor<TestClass4, TestClass5>(engine, TestClass5.class, null, DIRECT, 2, 4);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        processor.subscribe(subscriber);
+        boolean[] cancelled = { false };
+        processor.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {}
+
+            @Override
+            public void cancel() {
+                cancelled[0] = true;
+            }
+        });
+        subscriber.subscription.request(Long.MAX_VALUE);
+        processor.onNext(new TestClass4(1, true));
+        assertTrue(subscriber.error instanceof IllegalStateException);
+        assertTrue(cancelled[0]);
+
+        processor.onNext(new TestClass4(2, true));
+        assertEquals(0, subscriber.received.size());
+    }
+
+    @Test
+    public void testSignalsNonPositiveRequestImmediately() throws Exception {
+        TransformProcessor<TestClass4, TestClass5> processor = new TransformProcessor<TestClass4, TestClass5>(TestClass5.class, null, DIRECT, 2, 4);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        processor.subscribe(subscriber);
+        boolean[] cancelled = { false };
+        processor.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {}
+
+            @Override
+            public void cancel() {
+                cancelled[0] = true;
+            }
+        });
+        processor.onNext(new TestClass4(1, true));
+        subscriber.subscription.request(0);
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+        assertTrue(cancelled[0]);
+
+        subscriber.subscription.request(1);
+        assertEquals(0, subscriber.received.size());
+    }
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<TestClass5> {
+        private final List<TestClass5> received = new ArrayList<TestClass5>();
+        private Flow.Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(TestClass5 item) {
+            this.received.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
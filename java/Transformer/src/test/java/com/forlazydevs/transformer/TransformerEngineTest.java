@@ -0,0 +1,133 @@
+package com.forlazydevs.transformer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Map;
+
+import com.forlazydevs.transformer.exceptions.MissingIdentityFieldException;
+import com.forlazydevs.transformer.exceptions.NoUsableConstructorException;
+import com.forlazydevs.transformer.exceptions.NotTransformableException;
+import com.forlazydevs.transformer.exceptions.TransformerException;
+import com.forlazydevs.transformer.metrics.InMemoryTransformerMetrics;
+import com.forlazydevs.transformer.plan.PlanCache;
+import com.forlazydevs.transformer.rulebook.Rulebook;
+import com.forlazydevs.transformer.testclasses.TestClass1;
+import com.forlazydevs.transformer.testclasses.TestClass2;
+import com.forlazydevs.transformer.testclasses.TestClass3;
+import com.forlazydevs.transformer.testclasses.TestClass4;
+import com.forlazydevs.transformer.testclasses.TestClass5;
+import com.forlazydevs.transformer.testclasses.TestClass9;
+import com.forlazydevs.transformer.testclasses.TestClass11;
+import com.forlazydevs.transformer.testclasses.TestClass12;
+import com.forlazydevs.transformer.testclasses.TestClass33;
+import com.forlazydevs.transformer.testclasses.TestClass40;
+
+import org.junit.Test;
+
+public class TransformerEngineTest {
+
+    @Test
+    public void testEnginesTransformWithEveryStrategy() throws Exception {
+        for (TransformStrategy strategy : TransformStrategy.values()) {
+            TransformerEngine engine = TransformerEngine.builder().strategy(strategy).build();
+            TestClass1 classOne = engine.transform(new TestClass2(), TestClass1.class);
+            assertEquals("MyValue", classOne.getFieldOne());
+            assertEquals(1, classOne.getFieldTwo());
+            assertNull(classOne.getFieldThree());
+        }
+    }
+
+    @Test
+    public void testEngineAppliesDefaultRules() throws Exception {
+        Rulebook rules = new Rulebook();
+        rules.addFieldNameRules(Map.of("notFieldFour", "fieldFour"));
+        rules.addComposedTransformRules(Map.of(TestClass4.class, TestClass5.class, "fieldEight", TestClass9.class));
+        TransformerEngine engine = TransformerEngine.builder().defaultRules(rules).strategy(TransformStrategy.REFLECTIVE).build();
+        TestClass3 classThree = new TestClass3();
+        TestClass1 classOne = engine.transform(classThree, TestClass1.class);
+        assertEquals(classThree.getNotFieldFour(), classOne.getFieldFour());
+        assertEquals(classThree.getFieldFive().getFieldOne(), classOne.getFieldFive().getFieldOne());
+    }
+
+    @Test
+    public void testEngineKeepsItsOwnBoundedCache() throws Exception {
+        InMemoryTransformerMetrics metrics = new InMemoryTransformerMetrics();
+        TransformerEngine engine = TransformerEngine.builder().cacheSize(1).evictionPolicy(EvictionPolicy.LRU).metrics(metrics).build();
+        engine.transform(new TestClass2(), TestClass1.class);
+        engine.transform(new TestClass33(), TestClass1.class);
+        engine.transform(new TestClass2(), TestClass1.class);
+        assertEquals(1, engine.getPlanCache().size());
+        assertEquals(0, metrics.getPlanHits());
+        assertEquals(3, metrics.getPlanMisses());
+        assertEquals(2, metrics.getMapping(TestClass2.class, TestClass1.class).getCount());
+    }
+
+    @Test
+    public void testStaticMethodsDelegateToDefaultEngine() throws Exception {
+        TransformerEngine previous = Transformer.getDefaultEngine();
+        InMemoryTransformerMetrics metrics = new InMemoryTransformerMetrics();
+        TransformerEngine engine = TransformerEngine.builder().cacheSize(8).evictionPolicy(EvictionPolicy.SIZE_BOUNDED).metrics(metrics).build();
+        try {
+            Transformer.setDefaultEngine(engine);
+            Transformer.transform(new TestClass2(), TestClass1.class);
+            assertEquals(1, metrics.getMapping(TestClass2.class, TestClass1.class).getCount());
+            assertEquals(1, engine.getPlanCache().size());
+
+            Transformer.setStrategy(TransformStrategy.GENERATED);
+            assertNotSame(engine, Transformer.getDefaultEngine());
+            assertSame(engine.getPlanCache(), Transformer.getDefaultEngine().getPlanCache());
+            assertSame(metrics, Transformer.getMetrics());
+        } finally {
+            Transformer.setDefaultEngine(previous);
+        }
+        assertSame(PlanCache.shared(), Transformer.getDefaultEngine().getPlanCache());
+    }
+
+    @Test
+    public void testEngineWithoutStackTracesReusesFailures() throws Exception {
+        TransformerEngine engine = TransformerEngine.builder().captureStackTraces(false).build();
+        TransformerException first = transformFailure(engine, new TestClass1(), TestClass2.class);
+        assertTrue(first instanceof NotTransformableException);
+        assertEquals(0, first.getStackTrace().length);
+        assertSame(first, transformFailure(engine, new TestClass1(), TestClass2.class));
+
+        TransformerException identity = transformFailure(engine, new TestClass11(), TestClass12.class);
+        assertEquals(0, identity.getStackTrace().length);
+        assertTrue(identity.getCause() instanceof MissingIdentityFieldException);
+        assertEquals(0, identity.getCause().getStackTrace().length);
+        assertSame(identity.getCause(), transformFailure(engine, new TestClass11(), TestClass12.class).getCause());
+
+        TransformerException constructor = transformFailure(engine, new TestClass2(), TestClass40.class);
+        assertEquals(0, constructor.getStackTrace().length);
+        assertTrue(constructor.getCause() instanceof NoUsableConstructorException);
+        assertEquals(0, constructor.getCause().getStackTrace().length);
+        assertSame(constructor.getCause(), transformFailure(engine, new TestClass2(), TestClass40.class).getCause());
+    }
+
+    @Test
+    public void testEngineCapturesStackTracesByDefault() throws Exception {
+        TransformerEngine engine = TransformerEngine.builder().build();
+        TransformerException failure = transformFailure(engine, new TestClass1(), TestClass2.class);
+        assertTrue(failure.getStackTrace().length > 0);
+        assertNotSame(failure, transformFailure(engine, new TestClass1(), TestClass2.class));
+
+        Throwable constructor = transformFailure(engine, new TestClass2(), TestClass40.class).getCause();
+        assertTrue(constructor instanceof NoUsableConstructorException);
+        assertTrue(constructor.getStackTrace().length > 0);
+    }
+
+    private static TransformerException transformFailure(TransformerEngine engine, Object toTransform, Class<?> transformationClass) {
+        try {
+            engine.transform(toTransform, transformationClass);
+        } catch (TransformerException ex) {
+            return ex;
+        }
+        fail("The transformation should have failed.");
+        return null;
+    }
+}
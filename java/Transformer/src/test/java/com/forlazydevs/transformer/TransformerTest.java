@@ -1,11 +1,33 @@
 package com.forlazydevs.transformer;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import com.forlazydevs.transformer.batch.BatchResult;
+import com.forlazydevs.transformer.batch.FailurePolicy;
+import com.forlazydevs.transformer.exceptions.MappingValidationException;
 import com.forlazydevs.transformer.exceptions.TransformerException;
+import com.forlazydevs.transformer.exceptions.UncheckedTransformerException;
 import com.forlazydevs.transformer.rulebook.Rulebook;
 import com.forlazydevs.transformer.testclasses.TestClass1;
 import com.forlazydevs.transformer.testclasses.TestClass10;
@@ -15,7 +37,32 @@ import com.forlazydevs.transformer.testclasses.TestClass14;
 import com.forlazydevs.transformer.testclasses.TestClass15;
 import com.forlazydevs.transformer.testclasses.TestClass16;
 import com.forlazydevs.transformer.testclasses.TestClass17;
+import com.forlazydevs.transformer.testclasses.TestClass18;
+import com.forlazydevs.transformer.testclasses.TestClass19;
 import com.forlazydevs.transformer.testclasses.TestClass2;
+import com.forlazydevs.transformer.testclasses.TestClass20;
+import com.forlazydevs.transformer.testclasses.TestClass21;
+import com.forlazydevs.transformer.testclasses.TestClass22;
+import com.forlazydevs.transformer.testclasses.TestClass23;
+import com.forlazydevs.transformer.testclasses.TestClass24;
+import com.forlazydevs.transformer.testclasses.TestClass25;
+import com.forlazydevs.transformer.testclasses.TestClass26;
+import com.forlazydevs.transformer.testclasses.TestClass27;
+import com.forlazydevs.transformer.testclasses.TestClass28;
+import com.forlazydevs.transformer.testclasses.TestClass29;
+import com.forlazydevs.transformer.testclasses.TestClass30;
+import com.forlazydevs.transformer.testclasses.TestClass31;
+import com.forlazydevs.transformer.testclasses.TestClass32;
+import com.forlazydevs.transformer.testclasses.TestClass33;
+import com.forlazydevs.transformer.testclasses.TestClass34;
+import com.forlazydevs.transformer.testclasses.TestClass35;
+import com.forlazydevs.transformer.testclasses.TestClass36;
+import com.forlazydevs.transformer.testclasses.TestClass37;
+import com.forlazydevs.transformer.testclasses.TestClass38;
+import com.forlazydevs.transformer.testclasses.TestClass39;
+import com.forlazydevs.transformer.testclasses.TestClass41;
+import com.forlazydevs.transformer.testclasses.TestClass42;
+import com.forlazydevs.transformer.testclasses.TestClass43;
 import com.forlazydevs.transformer.testclasses.TestClass3;
 import com.forlazydevs.transformer.testclasses.TestClass4;
 import com.forlazydevs.transformer.testclasses.TestClass5;
@@ -108,5 +155,446 @@ public class TransformerTest {
         TestClass16 classSixteen = Transformer.transform(classFourteen, TestClass16.class);
         assertEquals(classFourteen.getFieldOne().getFieldOne(), classSixteen.getFieldOne());
     }
-    
+
+    @Test
+    public void testTransformPopulatesFinalFields() throws Exception {
+        TestClass2 classTwo = new TestClass2();
+        TestClass18 classEighteen = Transformer.transform(classTwo, TestClass18.class);
+        assertEquals(classTwo.getFieldOne(), classEighteen.getFieldOne());
+        assertEquals(classTwo.getFieldTwo(), classEighteen.getFieldTwo());
+    }
+
+    @Test
+    public void testTransformAllKeepsOrderAndNulls() throws Exception {
+        List<TestClass1> classOnes = Transformer.transformAll(Arrays.asList(new TestClass2(), null, new TestClass2()), TestClass1.class, null);
+        assertEquals(3, classOnes.size());
+        assertEquals("MyValue", classOnes.get(0).getFieldOne());
+        assertNull(classOnes.get(1));
+        assertEquals(1, classOnes.get(2).getFieldTwo());
+    }
+
+    @Test
+    public void testTransformAllArraysAndIterables() throws Exception {
+        List<TestClass1> fromArray = Transformer.transformAll(new TestClass2[] { new TestClass2(), new TestClass2() }, TestClass1.class, null);
+        List<TestClass1> fromIterable = Transformer.transformAll(Set.of(new TestClass2()), TestClass1.class, null);
+        assertEquals(2, fromArray.size());
+        assertEquals(1, fromIterable.size());
+        assertEquals("MyValue", fromIterable.get(0).getFieldOne());
+    }
+
+    @Test(expected = TransformerException.class)
+    public void testTransformAllFailsFast() throws Exception {
+        Transformer.transformAll(List.of(new TestClass2(), new TestClass1()), TestClass1.class, null);
+    }
+
+    @Test
+    public void testTransformAllSkipsFailures() throws Exception {
+        BatchResult<TestClass1> result = Transformer.transformAll(List.of(new TestClass1(), new TestClass2()), TestClass1.class, null, FailurePolicy.SKIP);
+        assertEquals(1, result.getResults().size());
+        assertFalse(result.hasFailures());
+    }
+
+    @Test
+    public void testTransformAllCollectsFailures() throws Exception {
+        TestClass1 classOne = new TestClass1();
+        BatchResult<TestClass1> result = Transformer.transformAll(List.of(new TestClass2(), classOne, new TestClass2(), classOne), TestClass1.class, null, FailurePolicy.COLLECT);
+        assertEquals(2, result.getResults().size());
+        assertTrue(result.hasFailures());
+        assertEquals(2, result.getFailures().size());
+        assertEquals(1, result.getFailures().get(0).getIndex());
+        assertEquals(classOne, result.getFailures().get(1).getElement());
+    }
+
+    @Test
+    public void testTransformAllParallelKeepsOrder() throws Exception {
+        List<TestClass4> classFours = new ArrayList<TestClass4>();
+        for (int i = 0; i < 10000; i++) {
+            classFours.add(i % 100 == 0 ? null : new TestClass4(i, i % 2 == 0));
+        }
+        List<TestClass5> classFives = Transformer.transformAllParallel(classFours, TestClass5.class, null);
+        assertEquals(classFours.size(), classFives.size());
+        for (int i = 0; i < classFours.size(); i++) {
+            if (classFours.get(i) == null) {
+                assertNull(classFives.get(i));
+            } else {
+                assertEquals(i, classFives.get(i).getFieldOne());
+            }
+        }
+    }
+
+    @Test
+    public void testTransformAllParallelCollectsFailures() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Set<Object> elements = new HashSet<Object>();
+            for (int i = 0; i < 500; i++) {
+                elements.add(new TestClass4(i, true));
+            }
+            elements.add(new TestClass1());
+            BatchResult<TestClass5> result = Transformer.transformAllParallel(elements, TestClass5.class, null, FailurePolicy.COLLECT, pool, 8);
+            assertEquals(500, result.getResults().size());
+            assertEquals(1, result.getFailures().size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expected = TransformerException.class)
+    public void testTransformAllParallelFailsFast() throws Exception {
+        Object[] elements = new Object[] { new TestClass4(), new TestClass1(), new TestClass4() };
+        Transformer.transformAllParallel(elements, TestClass5.class, null, FailurePolicy.FAIL_FAST, ForkJoinPool.commonPool(), 1);
+    }
+
+    @Test
+    public void testStreamTransformsLazily() throws Exception {
+        AtomicInteger created = new AtomicInteger();
+        Stream<TestClass4> classFours = Stream.generate(() -> new TestClass4(created.incrementAndGet(), true));
+        List<TestClass5> classFives = Transformer.stream(classFours, TestClass5.class, null)
+            .limit(3)
+            .collect(Collectors.toList());
+        assertEquals(3, classFives.size());
+        assertEquals(3, created.get());
+        assertEquals(1, classFives.get(0).getFieldOne());
+    }
+
+    @Test(expected = UncheckedTransformerException.class)
+    public void testStreamThrowsUncheckedException() throws Exception {
+        Transformer.stream(Stream.of(new TestClass4(), new TestClass1()), TestClass5.class, null).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testIteratorTransformsLazily() throws Exception {
+        Iterator<TestClass5> classFives = Transformer.iterator(List.of(new TestClass4(1, true), new TestClass1()).iterator(), TestClass5.class, null);
+        assertTrue(classFives.hasNext());
+        assertEquals(1, classFives.next().getFieldOne());
+        assertTrue(classFives.hasNext());
+        try {
+            classFives.next();
+            throw new AssertionError("Expected an UncheckedTransformerException.");
+        } catch (UncheckedTransformerException ex) {
+            assertTrue(ex.getCause() instanceof TransformerException);
+        }
+    }
+
+    @Test
+    public void testTransformWidensPrimitiveFields() throws Exception {
+        TestClass19 classNineteen = new TestClass19(Integer.MAX_VALUE, 1.5f, 'A', true, Long.MAX_VALUE);
+        for (TransformStrategy strategy : TransformStrategy.values()) {
+            Transformer.setStrategy(strategy);
+            try {
+                TestClass20 classTwenty = Transformer.transform(classNineteen, TestClass20.class);
+                assertEquals(Integer.MAX_VALUE, classTwenty.getFieldOne());
+                assertEquals(1.5d, classTwenty.getFieldTwo(), 0d);
+                assertEquals('A', classTwenty.getFieldThree());
+                assertTrue(classTwenty.getFieldFour());
+                assertEquals(Long.MAX_VALUE, classTwenty.getFieldFive());
+            } finally {
+                Transformer.setStrategy(TransformStrategy.HANDLES);
+            }
+        }
+    }
+
+    @Test
+    public void testTransformNarrowsPrimitiveFields() throws Exception {
+        TestClass21 classTwentyOne = Transformer.transform(new TestClass19(1, 1f, 'A', true, (1L << 32) + 5L), TestClass21.class);
+        assertEquals(5, classTwentyOne.getFieldFive());
+    }
+
+    @Test
+    public void testSharedReferencesStaySharedAndCyclesResolve() throws Exception {
+        TestClass23 shared = new TestClass23(7);
+        TestClass22 classTwentyTwo = new TestClass22(shared, shared);
+        shared.setFieldOne(classTwentyTwo);
+        Rulebook rules = new Rulebook();
+        rules.addComposedTransformRules(Map.of(TestClass22.class, TestClass24.class, TestClass23.class, TestClass25.class));
+        for (TransformStrategy strategy : TransformStrategy.values()) {
+            Transformer.setStrategy(strategy);
+            try {
+                TestClass24 classTwentyFour = Transformer.transform(classTwentyTwo, TestClass24.class, rules);
+                assertSame(classTwentyFour.getFieldOne(), classTwentyFour.getFieldTwo());
+                assertEquals(7, classTwentyFour.getFieldOne().getFieldTwo());
+                assertSame(classTwentyFour, classTwentyFour.getFieldOne().getFieldOne());
+            } finally {
+                Transformer.setStrategy(TransformStrategy.HANDLES);
+            }
+        }
+    }
+
+    @Test
+    public void testSeparateTransformsDoNotShareResults() throws Exception {
+        TestClass23 shared = new TestClass23(7);
+        TestClass22 classTwentyTwo = new TestClass22(shared, shared);
+        Rulebook rules = new Rulebook();
+        rules.addComposedTransformRules(Map.of(TestClass23.class, TestClass25.class));
+        TestClass24 first = Transformer.transform(classTwentyTwo, TestClass24.class, rules);
+        TestClass24 second = Transformer.transform(classTwentyTwo, TestClass24.class, rules);
+        assertNotSame(first.getFieldOne(), second.getFieldOne());
+    }
+
+    @Test
+    public void testTransformComposedContainersElementWise() throws Exception {
+        TestClass27 classTwentySeven = Transformer.transform(new TestClass26(), TestClass27.class);
+        assertEquals(2, classTwentySeven.getFieldOne().size());
+        assertEquals(2, classTwentySeven.getFieldOne().get(1).getFieldOne());
+        assertEquals(3, classTwentySeven.getFieldTwo()[0].getFieldOne());
+        assertEquals(4, classTwentySeven.getFieldThree().get("four").getFieldOne());
+        assertEquals(List.of("five"), classTwentySeven.getFieldFour());
+        assertEquals(2, classTwentySeven.getFieldFive().size());
+        assertTrue(classTwentySeven.getFieldFive().contains(null));
+    }
+
+    @Test
+    public void testTransformComposedQueuesAndSortedMaps() throws Exception {
+        TestClass42 classFortyTwo = Transformer.transform(new TestClass41(), TestClass42.class);
+        assertEquals(2, classFortyTwo.getFieldOne().size());
+        assertEquals(1, classFortyTwo.getFieldOne().peek().getFieldOne());
+        assertTrue(classFortyTwo.getFieldOne().contains(null));
+        assertEquals("b", classFortyTwo.getFieldTwo().firstKey());
+        assertEquals(3, classFortyTwo.getFieldTwo().get("b").getFieldOne());
+    }
+
+    @Test
+    public void testRejectsSortedSetOfIncomparableElements() throws Exception {
+        try {
+            Transformer.transform(new TestClass26(), TestClass43.class);
+            fail("The transformation should not be possible.");
+        } catch (TransformerException ex) {
+            assertTrue(ex.getCause().getMessage().contains("not Comparable"));
+        }
+        try {
+            Transformer.validate(TestClass26.class, TestClass43.class, null);
+            fail("The transformation should not be valid.");
+        } catch (MappingValidationException ex) {
+            assertEquals(1, ex.getProblems().size());
+            assertTrue(ex.getProblems().get(0).contains("not Comparable"));
+        }
+    }
+
+    @Test
+    public void testComposedRuleForContainerFieldNamesElementClass() throws Exception {
+        Rulebook rules = new Rulebook();
+        rules.addComposedTransformRules(Map.of("fieldOne", TestClass5.class));
+        TestClass27 classTwentySeven = Transformer.transform(new TestClass26(), TestClass27.class, rules);
+        assertTrue(classTwentySeven.getFieldOne().get(0) instanceof TestClass5);
+        assertEquals(1, classTwentySeven.getFieldOne().get(0).getFieldOne());
+    }
+
+    @Test
+    public void testTransformIntoPopulatesGivenInstance() throws Exception {
+        TestClass5 classFive = new TestClass5();
+        TestClass5 transformed = Transformer.transformInto(new TestClass4(5, true), classFive, null);
+        assertSame(classFive, transformed);
+        assertEquals(5, classFive.getFieldOne());
+        assertSame(classFive, Transformer.transformInto(null, classFive, null));
+    }
+
+    @Test(expected = TransformerException.class)
+    public void testTransformIntoNullTargetThrowsException() throws Exception {
+        Transformer.transformInto(new TestClass4(), null, null);
+    }
+
+    @Test
+    public void testTransformPoolReusesReleasedInstances() throws Exception {
+        TransformPool<TestClass5> pool = new TransformPool<TestClass5>(TestClass5.class, null, 1);
+        TestClass5 first = pool.acquire(new TestClass4(1, true));
+        assertEquals(1, first.getFieldOne());
+        pool.release(first);
+        pool.release(new TestClass5());
+        assertEquals(1, pool.size());
+
+        TestClass5 second = pool.acquire(new TestClass4(2, false));
+        assertSame(first, second);
+        assertEquals(2, second.getFieldOne());
+        assertEquals(0, pool.size());
+        assertNotSame(second, pool.acquire(new TestClass4(3, false)));
+    }
+
+    @Test
+    public void testTransformThroughAllArgsConstructor() throws Exception {
+        TestClass28 classTwentyEight = Transformer.transform(new TestClass4(8, true), TestClass28.class);
+        assertEquals(8L, classTwentyEight.getFieldOne());
+        assertTrue(classTwentyEight.getFieldTwo());
+        assertNull(classTwentyEight.getFieldThree());
+    }
+
+    @Test
+    public void testConstructedTargetsResolveCompletedReferences() throws Exception {
+        TestClass23 classTwentyThree = new TestClass23(3);
+        classTwentyThree.setFieldOne(new TestClass22());
+        Rulebook rules = new Rulebook();
+        rules.addComposedTransformRules(Map.of(TestClass22.class, TestClass24.class));
+        TestClass29 classTwentyNine = Transformer.transform(classTwentyThree, TestClass29.class, rules);
+        assertEquals(3, classTwentyNine.getFieldTwo());
+        assertNull(classTwentyNine.getFieldOne().getFieldOne());
+    }
+
+    @Test(expected = TransformerException.class)
+    public void testCyclicReferenceToConstructedTargetThrowsException() throws Exception {
+        TestClass23 classTwentyThree = new TestClass23(3);
+        classTwentyThree.setFieldOne(new TestClass22(classTwentyThree, null));
+        Rulebook rules = new Rulebook();
+        rules.addComposedTransformRules(Map.of(TestClass22.class, TestClass24.class, TestClass23.class, TestClass29.class));
+        Transformer.transform(classTwentyThree, TestClass29.class, rules);
+    }
+
+    @Test
+    public void testLazyComposedFieldIsTransformedOnFirstUse() throws Exception {
+        Rulebook rules = new Rulebook();
+        rules.addComposedTransformRules(Map.of(TestClass4.class, TestClass30.class));
+        TestClass32 classThirtyTwo = Transformer.transform(new TestClass31(new TestClass4(7, true)), TestClass32.class, rules);
+        assertTrue(Proxy.isProxyClass(classThirtyTwo.getFieldOne().getClass()));
+        assertEquals(7, classThirtyTwo.getFieldOne().getFieldOne());
+    }
+
+    @Test(expected = UncheckedTransformerException.class)
+    public void testLazyComposedFieldFailsOnFirstUse() throws Exception {
+        Rulebook rules = new Rulebook();
+        rules.addComposedTransformRules(Map.of("fieldOne", TestClass30.class));
+        TestClass32 classThirtyTwo = Transformer.transform(new TestClass31(new TestClass1()), TestClass32.class, rules);
+        classThirtyTwo.getFieldOne().getFieldOne();
+    }
+
+    @Test
+    public void testDiscoverFindsTransformableClasses() throws Exception {
+        List<Class<?>> discovered = Transformer.discover(null, "com.forlazydevs.transformer.testclasses");
+        assertTrue(discovered.contains(TestClass2.class));
+        assertTrue(discovered.contains(TestClass33.class));
+        assertFalse(discovered.contains(TestClass1.class));
+    }
+
+    @Test
+    public void testPrepareAllPreparesDeclaredTargets() throws Exception {
+        List<Class<?>> discovered = Transformer.discover(getClass().getClassLoader(), "com.forlazydevs.transformer.testclasses");
+        assertEquals(2, Transformer.prepareAll(discovered, null, 10));
+        TestClass1 classOne = Transformer.transform(new TestClass33(), TestClass1.class);
+        assertEquals("MyValue", classOne.getFieldOne());
+    }
+
+    @Test(expected = TransformerException.class)
+    public void testPrepareInvalidTransformationThrowsException() throws Exception {
+        Transformer.prepare(TestClass1.class, TestClass2.class, null);
+    }
+
+    @Test
+    public void testValidateReportsEveryProblem() throws Exception {
+        try {
+            Transformer.validate(TestClass11.class, TestClass12.class, null);
+            fail("The transformation should not be valid.");
+        } catch (MappingValidationException ex) {
+            assertEquals(2, ex.getProblems().size());
+            assertTrue(ex.getProblems().get(0).contains("fieldOne"));
+            assertTrue(ex.getProblems().get(1).contains("other"));
+        }
+    }
+
+    @Test
+    public void testValidateFollowsComposedFields() throws Exception {
+        Rulebook rules = new Rulebook();
+        rules.addFieldNameRules(Map.of("notFieldFour", "fieldFour"));
+        rules.addComposedTransformRules(Map.of(TestClass4.class, TestClass5.class, "fieldEight", TestClass9.class));
+        Transformer.validate(TestClass3.class, TestClass1.class, rules);
+        rules.resetComposedTransformRules(Map.of(TestClass4.class, TestClass2.class));
+        try {
+            Transformer.validate(TestClass3.class, TestClass1.class, rules);
+            fail("The transformation should not be valid.");
+        } catch (MappingValidationException ex) {
+            assertTrue(ex.getProblems().size() >= 1);
+            assertTrue(ex.getProblems().get(0).startsWith("TestClass3.fieldFive: "));
+        }
+    }
+
+    @Test
+    public void testTransformConvertsFieldTypes() throws Exception {
+        Rulebook rules = new Rulebook();
+        rules.addConverter(String.class, String.class, String::trim);
+        rules.addConverter(Long.class, Duration.class, Duration::ofSeconds);
+        Transformer.validate(TestClass34.class, TestClass35.class, rules);
+        for (TransformStrategy strategy : TransformStrategy.values()) {
+            TransformerEngine engine = TransformerEngine.builder().strategy(strategy).build();
+            TestClass35 classThirtyFive = engine.transform(new TestClass34(), TestClass35.class, rules);
+            assertEquals(42, classThirtyFive.getFieldOne());
+            assertEquals("7", classThirtyFive.getFieldTwo());
+            assertEquals(1000L, classThirtyFive.getFieldThree());
+            assertEquals(Long.valueOf(3L), classThirtyFive.getFieldFour());
+            assertEquals(TimeUnit.SECONDS, classThirtyFive.getFieldFive());
+            assertEquals("MINUTES", classThirtyFive.getFieldSix());
+            assertEquals("padded", classThirtyFive.getFieldSeven());
+            assertEquals(Duration.ofSeconds(90L), classThirtyFive.getFieldEight());
+            assertNull(classThirtyFive.getFieldNine());
+        }
+    }
+
+    @Test
+    public void testTransformChangesOnlyWritesChangedFields() throws Exception {
+        Rulebook rules = new Rulebook();
+        rules.addComposedTransformRules(Map.of(TestClass4.class, TestClass5.class));
+        for (TransformStrategy strategy : TransformStrategy.values()) {
+            TransformerEngine engine = TransformerEngine.builder().strategy(strategy).build();
+            TestClass36 previous = new TestClass36("one", 1, 1.5, new TestClass4(1, false));
+            TestClass37 classThirtySeven = new TestClass37();
+            FieldChanges changes = engine.transformChanges(null, previous, classThirtySeven, rules);
+            assertEquals(4, changes.getFieldCount());
+            assertEquals(4, changes.getChangedCount());
+            TestClass5 classFive = classThirtySeven.getFieldFour();
+            assertEquals(1, classFive.getFieldOne());
+
+            classThirtySeven.setFieldOne("kept");
+            TestClass36 current = new TestClass36("one", 2, 1.5, new TestClass4(1, true));
+            changes = engine.transformChanges(previous, current, classThirtySeven, rules);
+            assertEquals(List.of("fieldTwo", "fieldFour"), changes.getChangedFieldNames());
+            assertTrue(changes.isChanged(1));
+            assertFalse(changes.isChanged("fieldOne"));
+            assertEquals(2, changes.toBitSet().cardinality());
+            assertEquals("kept", classThirtySeven.getFieldOne());
+            assertEquals(2, classThirtySeven.getFieldTwo());
+            assertSame(classFive, classThirtySeven.getFieldFour());
+            assertTrue(classFive.getFieldTwo());
+
+            assertFalse(engine.transformChanges(current, current, classThirtySeven, rules).hasChanges());
+        }
+    }
+
+    @Test
+    public void testTransformChangesRejectsConstructedTargets() throws Exception {
+        try {
+            Transformer.transformChanges(null, new TestClass23(3), new TestClass29(null, 3), null);
+            fail("A target built through its constructor should not be updated.");
+        } catch (TransformerException ex) {
+            assertTrue(ex.getMessage().contains("TestClass29"));
+        }
+    }
+
+    @Test
+    public void testTransformIntoRejectsConstructedTargets() throws Exception {
+        try {
+            Transformer.transformInto(new TestClass23(3), new TestClass29(null, 3), null);
+            fail("A target built through its constructor should not be populated.");
+        } catch (TransformerException ex) {
+            assertEquals("Class TestClass29 is built through its constructor and cannot be updated.", ex.getMessage());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTransformPoolRejectsConstructedTargets() {
+        new TransformPool<TestClass29>(TestClass29.class, null, 1);
+    }
+
+    @Test
+    public void testComposedObjectsApplyTheRulesOfTheTopLevelTransformation() throws Exception {
+        Rulebook rules = new Rulebook();
+        rules.addComposedTransformRules(Map.of(TestClass3.class, TestClass1.class, TestClass4.class, TestClass5.class, "fieldEight", TestClass9.class));
+        // The root field is converted first and changes the rules before the composed field is reached.
+        rules.addConverter(String.class, String.class, value -> {
+            rules.addFieldNameRules(Map.of("notFieldFour", "fieldFour"));
+            return value;
+        });
+        TransformerEngine engine = TransformerEngine.builder().build();
+        TestClass39 classThirtyNine = engine.transform(new TestClass38(), TestClass39.class, rules);
+        assertEquals("MyValue", classThirtyNine.getFieldOne());
+        assertNull(classThirtyNine.getFieldTwo().getFieldFour());
+
+        classThirtyNine = engine.transform(new TestClass38(), TestClass39.class, rules);
+        assertEquals("Am I going to be transformed?", classThirtyNine.getFieldTwo().getFieldFour());
+    }
+
 }
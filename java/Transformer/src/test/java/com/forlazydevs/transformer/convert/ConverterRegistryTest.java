@@ -0,0 +1,62 @@
+package com.forlazydevs.transformer.convert;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import com.forlazydevs.transformer.rulebook.CompiledRulebook;
+import com.forlazydevs.transformer.rulebook.Rulebook;
+
+import org.junit.Test;
+
+public class ConverterRegistryTest {
+
+    @Test
+    public void testAssignableTypesNeedNoConversion() {
+        assertFalse(ConverterRegistry.needsConversion(int.class, long.class));
+        assertFalse(ConverterRegistry.needsConversion(Integer.class, int.class));
+        assertFalse(ConverterRegistry.needsConversion(Object.class, String.class));
+        assertTrue(ConverterRegistry.needsConversion(long.class, int.class));
+        assertTrue(ConverterRegistry.needsConversion(Integer.class, Long.class));
+        assertNull(ConverterRegistry.find(int.class, long.class, CompiledRulebook.EMPTY));
+        assertNull(ConverterRegistry.find(String.class, Thread.class, CompiledRulebook.EMPTY));
+    }
+
+    @Test
+    public void testBuiltInConversionsKeepExactTypes() throws Throwable {
+        MethodHandle narrowing = ConverterRegistry.find(double.class, int.class, CompiledRulebook.EMPTY);
+        assertEquals(MethodType.methodType(int.class, double.class), narrowing.type());
+        assertEquals(3, (int) narrowing.invokeExact(3.9d));
+
+        MethodHandle parse = ConverterRegistry.find(String.class, BigDecimal.class, CompiledRulebook.EMPTY);
+        assertEquals(new BigDecimal("1.50"), (BigDecimal) parse.invokeExact("1.50"));
+        assertNull((BigDecimal) parse.invokeExact((String) null));
+
+        MethodHandle unit = ConverterRegistry.find(String.class, TimeUnit.class, CompiledRulebook.EMPTY);
+        assertEquals(TimeUnit.HOURS, (TimeUnit) unit.invokeExact("HOURS"));
+
+        MethodHandle epoch = ConverterRegistry.find(LocalDateTime.class, Long.class, CompiledRulebook.EMPTY);
+        assertEquals(Long.valueOf(60000L), (Long) epoch.invokeExact(LocalDateTime.of(1970, 1, 1, 0, 1)));
+    }
+
+    @Test
+    public void testRegisteredConvertersTakePrecedenceAndChain() throws Throwable {
+        Rulebook rules = new Rulebook();
+        rules.addConverter(Integer.class, Integer.class, value -> value * 2);
+        rules.addConverter(BigDecimal.class, Duration.class, value -> Duration.ofMillis(value.movePointRight(3).longValueExact()));
+        MethodHandle doubling = ConverterRegistry.find(int.class, int.class, rules.freeze());
+        assertEquals(8, (int) doubling.invokeExact(4));
+
+        MethodHandle chained = ConverterRegistry.find(String.class, Duration.class, rules.freeze());
+        assertEquals(Duration.ofMillis(1500L), (Duration) chained.invokeExact("1.5"));
+        assertNull(ConverterRegistry.find(String.class, Duration.class, CompiledRulebook.EMPTY));
+    }
+}
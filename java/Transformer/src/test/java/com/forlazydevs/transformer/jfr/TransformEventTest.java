@@ -0,0 +1,133 @@
+package com.forlazydevs.transformer.jfr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import com.forlazydevs.transformer.Transformer;
+import com.forlazydevs.transformer.TransformerEngine;
+import com.forlazydevs.transformer.exceptions.MappingValidationException;
+import com.forlazydevs.transformer.exceptions.TransformerException;
+import com.forlazydevs.transformer.plan.PlanCache;
+import com.forlazydevs.transformer.rulebook.Rulebook;
+import com.forlazydevs.transformer.testclasses.TestClass1;
+import com.forlazydevs.transformer.testclasses.TestClass2;
+import com.forlazydevs.transformer.testclasses.TestClass22;
+import com.forlazydevs.transformer.testclasses.TestClass23;
+import com.forlazydevs.transformer.testclasses.TestClass24;
+import com.forlazydevs.transformer.testclasses.TestClass25;
+import com.forlazydevs.transformer.testclasses.TestClass29;
+import com.forlazydevs.transformer.testclasses.TestClass3;
+import com.forlazydevs.transformer.testclasses.TestClass4;
+
+import org.junit.Test;
+
+public class TransformEventTest {
+
+    @Test
+    public void testRecordsTransformAndPlanCompileEvents() throws Exception {
+        PlanCache.clear();
+        Rulebook rules = new Rulebook();
+        rules.addComposedTransformRules(Map.of(TestClass23.class, TestClass25.class));
+        List<RecordedEvent> events = record(() -> {
+            Transformer.transform(new TestClass2(), TestClass1.class);
+            Transformer.transform(new TestClass22(new TestClass23(1), null), TestClass24.class, rules);
+        });
+
+        List<RecordedEvent> transforms = named(events, "com.forlazydevs.transformer.Transform");
+        assertEquals(2, transforms.size());
+        assertEquals(TestClass2.class.getName(), transforms.get(0).getClass("sourceClass").getName());
+        assertEquals(TestClass1.class.getName(), transforms.get(0).getClass("targetClass").getName());
+        assertEquals(3, transforms.get(0).getInt("fieldCount"));
+        assertEquals(0, transforms.get(0).getInt("depth"));
+        assertEquals(1, transforms.get(1).getInt("depth"));
+
+        List<RecordedEvent> compiles = named(events, "com.forlazydevs.transformer.PlanCompile");
+        assertEquals(3, compiles.size());
+    }
+
+    @Test
+    public void testRecordsFailureEvents() throws Exception {
+        List<RecordedEvent> events = record(() -> {
+            try {
+                Transformer.transform(new TestClass1(), TestClass2.class);
+            } catch (TransformerException ex) {
+                // Recorded.
+            }
+        });
+        List<RecordedEvent> failures = named(events, "com.forlazydevs.transformer.TransformFailure");
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(0).getString("message").contains("@Transformable"));
+    }
+
+    @Test
+    public void testRecordsOneFailureEventPerFailedTransformation() throws Exception {
+        Rulebook rules = new Rulebook();
+        rules.addComposedTransformRules(Map.of(TestClass4.class, TestClass2.class));
+        TransformerEngine engine = TransformerEngine.builder().captureStackTraces(false).build();
+        List<RecordedEvent> events = record(() -> {
+            for (int i = 0; i < 2; i++) {
+                try {
+                    engine.transform(new TestClass1(), TestClass2.class);
+                    fail("TestClass1 should not be transformable.");
+                } catch (TransformerException ex) {
+                    // Recorded.
+                }
+            }
+            try {
+                engine.transform(new TestClass3(), TestClass1.class, rules);
+                fail("The composed field should not be transformable.");
+            } catch (TransformerException ex) {
+                // Recorded.
+            }
+            try {
+                engine.validate(TestClass2.class, TestClass29.class, null);
+                fail("The mapping should not be valid.");
+            } catch (MappingValidationException ex) {
+                // Validating does not fail a transformation.
+            }
+        });
+        List<RecordedEvent> failures = named(events, "com.forlazydevs.transformer.TransformFailure");
+        assertEquals(3, failures.size());
+        assertTrue(failures.get(0).getString("message").contains("@Transformable"));
+        assertTrue(failures.get(1).getString("message").contains("@Transformable"));
+        assertTrue(failures.get(2).getString("message").startsWith("Could not transform TestClass3"));
+    }
+
+    private List<RecordedEvent> record(Recorded recorded) throws Exception {
+        Path file = Files.createTempFile("transformer", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(TransformEvent.class);
+            recording.enable(PlanCompileEvent.class);
+            recording.enable(TransformFailureEvent.class);
+            recording.start();
+            recorded.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream()
+            .filter(event -> event.getEventType().getName().equals(name))
+            .sorted((first, second) -> first.getStartTime().compareTo(second.getStartTime()))
+            .collect(Collectors.toList());
+    }
+
+    private interface Recorded {
+        void run() throws Exception;
+    }
+}
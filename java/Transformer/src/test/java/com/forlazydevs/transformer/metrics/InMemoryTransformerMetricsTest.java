@@ -0,0 +1,109 @@
+package com.forlazydevs.transformer.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Map;
+
+import com.forlazydevs.transformer.Transformer;
+import com.forlazydevs.transformer.exceptions.TransformerException;
+import com.forlazydevs.transformer.rulebook.Rulebook;
+import com.forlazydevs.transformer.testclasses.TestClass1;
+import com.forlazydevs.transformer.testclasses.TestClass14;
+import com.forlazydevs.transformer.testclasses.TestClass15;
+import com.forlazydevs.transformer.testclasses.TestClass16;
+import com.forlazydevs.transformer.testclasses.TestClass2;
+import com.forlazydevs.transformer.testclasses.TestClass22;
+import com.forlazydevs.transformer.testclasses.TestClass23;
+import com.forlazydevs.transformer.testclasses.TestClass24;
+import com.forlazydevs.transformer.testclasses.TestClass25;
+import com.forlazydevs.transformer.testclasses.TestClass29;
+import com.forlazydevs.transformer.testclasses.TestClass40;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class InMemoryTransformerMetricsTest {
+
+    private InMemoryTransformerMetrics metrics;
+
+    @Before
+    public void setUp() {
+        this.metrics = new InMemoryTransformerMetrics();
+        Transformer.setMetrics(this.metrics);
+    }
+
+    @After
+    public void tearDown() {
+        Transformer.setMetrics(NoopTransformerMetrics.INSTANCE);
+    }
+
+    @Test
+    public void testRecordsTransformations() throws Exception {
+        Transformer.transform(new TestClass2(), TestClass1.class);
+        Transformer.transform(new TestClass2(), TestClass1.class);
+        InMemoryTransformerMetrics.MappingStats stats = this.metrics.getMapping(TestClass2.class, TestClass1.class);
+        assertEquals(2, stats.getCount());
+        assertEquals(6, stats.getFieldsCopied());
+        assertTrue(stats.getMaxNanos() > 0);
+        assertTrue(stats.getPercentileNanos(99) >= stats.getPercentileNanos(50));
+        assertTrue(stats.getPercentileNanos(100) >= stats.getMaxNanos());
+        assertEquals(2, this.metrics.getPlanHits() + this.metrics.getPlanMisses());
+        assertTrue(this.metrics.getPlanHits() >= 1);
+    }
+
+    @Test
+    public void testRecordsComposedAndIdentityTransforms() throws Exception {
+        TestClass22 classTwentyTwo = new TestClass22(new TestClass23(1), new TestClass23(2));
+        Rulebook rules = new Rulebook();
+        rules.addComposedTransformRules(Map.of(TestClass23.class, TestClass25.class));
+        Transformer.transform(classTwentyTwo, TestClass24.class, rules);
+        assertEquals(2, this.metrics.getMapping(TestClass23.class, TestClass25.class).getComposedTransforms());
+
+        Transformer.transform(new TestClass14(), TestClass16.class);
+        assertEquals(1, this.metrics.getMapping(TestClass15.class, Object.class).getIdentityCopies());
+    }
+
+    @Test
+    public void testRecordsFailuresByCause() throws Exception {
+        TestClass23 classTwentyThree = new TestClass23(3);
+        classTwentyThree.setFieldOne(new TestClass22(classTwentyThree, null));
+        Rulebook rules = new Rulebook();
+        rules.addComposedTransformRules(Map.of(TestClass22.class, TestClass24.class, TestClass23.class, TestClass29.class));
+        try {
+            Transformer.transform(classTwentyThree, TestClass29.class, rules);
+            fail("The cycle through a constructed target should not be transformed");
+        } catch (TransformerException ex) {
+            assertEquals(1, this.metrics.getMapping(TestClass23.class, TestClass29.class).getFailures());
+            assertEquals(Long.valueOf(1), this.metrics.getFailuresByCause().get(TransformerException.class.getName()));
+        }
+
+        this.metrics.reset();
+        assertTrue(this.metrics.getMappings().isEmpty());
+        assertTrue(this.metrics.getFailuresByCause().isEmpty());
+    }
+
+    @Test
+    public void testRecordsResolutionFailures() throws Exception {
+        try {
+            Transformer.transform(new TestClass1(), TestClass2.class);
+            fail("A class not marked as transformable should not be transformed");
+        } catch (TransformerException ex) {
+            assertEquals(1, this.metrics.getMapping(TestClass1.class, TestClass2.class).getFailures());
+        }
+        try {
+            Transformer.transformInto(new TestClass2(), new TestClass40("one"), null);
+            fail("A target without a no argument constructor should not be populated");
+        } catch (TransformerException ex) {
+            assertEquals(1, this.metrics.getMapping(TestClass2.class, TestClass40.class).getFailures());
+        }
+    }
+
+    @Test
+    public void testNoopMetricsAreDisabled() {
+        assertFalse(NoopTransformerMetrics.INSTANCE.isEnabled());
+    }
+}
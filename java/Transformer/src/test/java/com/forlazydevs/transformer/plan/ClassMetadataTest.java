@@ -0,0 +1,67 @@
+package com.forlazydevs.transformer.plan;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Objects;
+
+import com.forlazydevs.transformer.testclasses.TestClass1;
+import com.forlazydevs.transformer.testclasses.TestClass14;
+import com.forlazydevs.transformer.testclasses.TestClass2;
+import com.forlazydevs.transformer.testclasses.TestClass31;
+import com.forlazydevs.transformer.testclasses.TestClass33;
+
+import org.junit.Test;
+
+public class ClassMetadataTest {
+
+    @Test
+    public void testMetadataIsDiscoveredOnce() throws Exception {
+        ClassMetadata metadata = ClassMetadata.of(TestClass2.class);
+        assertSame(metadata, ClassMetadata.of(TestClass2.class));
+        assertTrue(metadata.isTransformable());
+        assertFalse(ClassMetadata.of(TestClass1.class).isTransformable());
+        assertEquals(3, metadata.getInstanceFields().size());
+        assertEquals("fieldOne", metadata.getInstanceFields().get(0).getName());
+        assertSame(metadata.getField("fieldOne").getAccessor(), metadata.getField("fieldOne").getAccessor());
+        assertArrayEquals(new Class<?>[] { TestClass1.class, TestClass33.class }, ClassMetadata.of(TestClass33.class).getTargetClasses());
+    }
+
+    @Test
+    public void testMetadataReadsFieldAnnotations() {
+        ClassMetadata.FieldMetadata identity = ClassMetadata.of(TestClass14.class).getField("fieldOne");
+        assertTrue(identity.isComposed());
+        assertFalse(identity.isLazy());
+        assertEquals("fieldOne", identity.getIdentityFieldName());
+
+        assertTrue(ClassMetadata.of(TestClass31.class).getField("fieldOne").isLazy());
+        assertNull(ClassMetadata.of(TestClass2.class).getField("fieldOne").getIdentityFieldName());
+        assertNull(ClassMetadata.of(TestClass2.class).getField("fieldFour"));
+    }
+
+    @Test
+    public void testMetadataDoesNotKeepClassLoaderAlive() throws Exception {
+        WeakReference<ClassLoader> loader = describeInOwnLoader();
+        for (int i = 0; i < 50 && !Objects.isNull(loader.get()); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(loader.get());
+    }
+
+    private WeakReference<ClassLoader> describeInOwnLoader() throws Exception {
+        URL classes = TestClass2.class.getProtectionDomain().getCodeSource().getLocation();
+        URLClassLoader loader = new URLClassLoader(new URL[] { classes }, null);
+        Class<?> clazz = loader.loadClass(TestClass2.class.getName());
+        ClassMetadata.of(clazz).getField("fieldOne").getAccessor();
+        loader.close();
+        return new WeakReference<ClassLoader>(loader);
+    }
+}
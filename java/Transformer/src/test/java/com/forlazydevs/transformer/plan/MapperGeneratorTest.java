@@ -0,0 +1,74 @@
+package com.forlazydevs.transformer.plan;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Map;
+
+import com.forlazydevs.transformer.TransformStrategy;
+import com.forlazydevs.transformer.Transformer;
+import com.forlazydevs.transformer.exceptions.TransformerException;
+import com.forlazydevs.transformer.rulebook.Rulebook;
+import com.forlazydevs.transformer.testclasses.TestClass1;
+import com.forlazydevs.transformer.testclasses.TestClass2;
+import com.forlazydevs.transformer.testclasses.TestClass3;
+import com.forlazydevs.transformer.testclasses.TestClass4;
+import com.forlazydevs.transformer.testclasses.TestClass5;
+import com.forlazydevs.transformer.testclasses.TestClass9;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class MapperGeneratorTest {
+
+    @After
+    public void tearDown() {
+        Transformer.setStrategy(TransformStrategy.HANDLES);
+    }
+
+    @Test
+    public void testGeneratesMapperClass() throws Exception {
+        TransformPlan<TestClass1> plan = PlanCache.get(TestClass2.class, TestClass1.class, null);
+        MethodHandle[] steps = new MethodHandle[] {};
+        GeneratedMapper fallback = (source, target, rules) -> {
+            throw new AssertionError("Fallback should not be used.");
+        };
+        GeneratedMapper mapper = MapperGenerator.generate(steps, fallback);
+        assertNotSame(fallback, mapper);
+        TestClass1 classOne = new TestClass1();
+        mapper.map(new TestClass2(), classOne, null);
+        assertNull(classOne.getFieldOne());
+
+        TestClass2 classTwo = new TestClass2();
+        classOne = new TestClass1();
+        plan.applyGenerated(classTwo, classOne, null);
+        assertEquals(classTwo.getFieldOne(), classOne.getFieldOne());
+        assertEquals(classTwo.getFieldTwo(), classOne.getFieldTwo());
+    }
+
+    @Test
+    public void testGeneratedStrategyAppliesRules() throws Exception {
+        Transformer.setStrategy(TransformStrategy.GENERATED);
+        TestClass3 classThree = new TestClass3();
+        Rulebook rules = new Rulebook();
+        rules.addFieldNameRules(Map.of("notFieldFour", "fieldFour"));
+        rules.addComposedTransformRules(Map.of(TestClass4.class, TestClass5.class, "fieldEight", TestClass9.class));
+        TestClass1 classOne = Transformer.transform(classThree, TestClass1.class, rules);
+        assertEquals(classOne.getFieldOne(), classThree.getFieldOne());
+        assertEquals(classOne.getFieldTwo(), classThree.getFieldTwo());
+        assertNull(classOne.getFieldThree());
+        assertEquals(classOne.getFieldFour(), classThree.getNotFieldFour());
+        assertEquals(classOne.getFieldFive().getFieldOne(), classThree.getFieldFive().getFieldOne());
+        assertEquals(classOne.getFieldSix(), classThree.getFieldSix().getId());
+        assertEquals(classOne.getFieldSeven(), classThree.getFieldSeven().getIdentity(), 0);
+        assertEquals(classOne.getFieldEight().getFieldTwo(), classThree.getFieldEight().getFieldTwo());
+    }
+
+    @Test(expected = TransformerException.class)
+    public void testGeneratedStrategyFailsOnIncompatibleTypes() throws Exception {
+        Transformer.setStrategy(TransformStrategy.GENERATED);
+        Transformer.transform(new TestClass2(), TestClass4.class);
+    }
+}
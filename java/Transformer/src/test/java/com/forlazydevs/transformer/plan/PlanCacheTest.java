@@ -0,0 +1,95 @@
+package com.forlazydevs.transformer.plan;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Map;
+import java.util.Objects;
+
+import com.forlazydevs.transformer.EvictionPolicy;
+import com.forlazydevs.transformer.metrics.NoopTransformerMetrics;
+import com.forlazydevs.transformer.rulebook.Rulebook;
+import com.forlazydevs.transformer.testclasses.TestClass1;
+import com.forlazydevs.transformer.testclasses.TestClass2;
+import com.forlazydevs.transformer.testclasses.TestClass3;
+import com.forlazydevs.transformer.testclasses.TestClass4;
+import com.forlazydevs.transformer.testclasses.TestClass5;
+
+import org.junit.Test;
+
+public class PlanCacheTest {
+
+    @Test
+    public void testPlanIsCompiledOnce() throws Exception {
+        TransformPlan<TestClass1> first = PlanCache.get(TestClass2.class, TestClass1.class, null);
+        TransformPlan<TestClass1> second = PlanCache.get(TestClass2.class, TestClass1.class, null);
+        assertSame(first, second);
+        assertEquals(3, first.getFieldCount());
+    }
+
+    @Test
+    public void testRulebooksWithSameRulesShareAPlan() throws Exception {
+        Rulebook rules = new Rulebook();
+        rules.addFieldNameRules(Map.of("notFieldFour", "fieldFour"));
+        Rulebook otherRules = new Rulebook();
+        otherRules.addFieldNameRules(Map.of("notFieldFour", "fieldFour"));
+        assertSame(PlanCache.get(TestClass3.class, TestClass1.class, rules), PlanCache.get(TestClass3.class, TestClass1.class, otherRules));
+    }
+
+    @Test
+    public void testDifferentRulesCompileDifferentPlans() throws Exception {
+        Rulebook rules = new Rulebook();
+        rules.addFieldNameRules(Map.of("notFieldFour", "fieldFour"));
+        TransformPlan<TestClass1> withRules = PlanCache.get(TestClass3.class, TestClass1.class, rules);
+        TransformPlan<TestClass1> withoutRules = PlanCache.get(TestClass3.class, TestClass1.class, null);
+        assertNotSame(withRules, withoutRules);
+        assertEquals(withoutRules.getFieldCount() + 1, withRules.getFieldCount());
+    }
+
+    @Test
+    public void testLruCacheEvictsLeastRecentlyUsedPlan() throws Exception {
+        PlanCache cache = new PlanCache(2, EvictionPolicy.LRU);
+        TransformPlan<TestClass1> first = cache.lookup(TestClass2.class, TestClass1.class, null, NoopTransformerMetrics.INSTANCE);
+        cache.lookup(TestClass3.class, TestClass1.class, null, NoopTransformerMetrics.INSTANCE);
+        assertSame(first, cache.lookup(TestClass2.class, TestClass1.class, null, NoopTransformerMetrics.INSTANCE));
+        cache.lookup(TestClass4.class, TestClass5.class, null, NoopTransformerMetrics.INSTANCE);
+        assertEquals(2, cache.size());
+        assertSame(first, cache.lookup(TestClass2.class, TestClass1.class, null, NoopTransformerMetrics.INSTANCE));
+    }
+
+    @Test
+    public void testSizeBoundedCacheKeepsItsSize() throws Exception {
+        PlanCache cache = new PlanCache(1, EvictionPolicy.SIZE_BOUNDED);
+        cache.lookup(TestClass2.class, TestClass1.class, null, NoopTransformerMetrics.INSTANCE);
+        TransformPlan<TestClass5> last = cache.lookup(TestClass4.class, TestClass5.class, null, NoopTransformerMetrics.INSTANCE);
+        assertEquals(1, cache.size());
+        assertSame(last, cache.lookup(TestClass4.class, TestClass5.class, null, NoopTransformerMetrics.INSTANCE));
+    }
+
+    @Test
+    public void testUnboundedCacheReleasesPlansOfUnloadedClasses() throws Exception {
+        PlanCache cache = new PlanCache(PlanCache.UNBOUNDED, EvictionPolicy.LRU);
+        WeakReference<ClassLoader> loader = lookupInOwnLoader(cache);
+        for (int i = 0; i < 100 && !Objects.isNull(loader.get()); i++) {
+            System.gc();
+            Thread.sleep(10L);
+        }
+        assertNull(loader.get());
+        assertEquals(0, cache.size());
+    }
+
+    private WeakReference<ClassLoader> lookupInOwnLoader(PlanCache cache) throws Exception {
+        URL testClasses = TestClass1.class.getProtectionDomain().getCodeSource().getLocation();
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { testClasses }, ClassLoader.getPlatformClassLoader())) {
+            Class<?> sourceClass = loader.loadClass(TestClass2.class.getName());
+            cache.lookup(sourceClass, loader.loadClass(TestClass1.class.getName()), null, NoopTransformerMetrics.INSTANCE);
+            assertEquals(1, cache.size());
+            return new WeakReference<ClassLoader>(loader);
+        }
+    }
+}
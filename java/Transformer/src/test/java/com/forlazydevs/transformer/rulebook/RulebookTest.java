@@ -2,11 +2,17 @@ package com.forlazydevs.transformer.rulebook;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import com.forlazydevs.transformer.exceptions.TransformerException;
 import com.forlazydevs.transformer.rulebook.Rulebook;
@@ -164,6 +170,88 @@ public class RulebookTest {
         assertEquals(2, rules.getComposedRules().size());
     }
 
+    @Test
+    public void testAddingRulesDoesNotModifyTheGivenMap() {
+        rules.addFieldNameRules(fieldNameRules);
+        rules.addFieldNameRules(Map.of("NewKey", "NewValue"));
+        assertEquals(1, fieldNameRules.size());
+        assertEquals(2, rules.getFieldNameRules().size());
+    }
+
+    @Test
+    public void testConcurrentlyAddedRulesAreAllKept() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            String key = "field" + i;
+            executor.execute(() -> rules.addFieldNameRules(Map.of(key, key)));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(1000, rules.getFieldNameRules().size());
+    }
+
+    @Test
+    public void testFreezeReturnsSameSnapshotUntilRulesChange() throws Exception {
+        rules.addFieldNameRules(fieldNameRules);
+        CompiledRulebook snapshot = rules.freeze();
+        assertSame(snapshot, rules.freeze());
+        assertEquals("fieldTwo", snapshot.getTargetFieldName("fieldOne"));
+        assertEquals("fieldThree", snapshot.getTargetFieldName("fieldThree"));
+
+        rules.addComposedTransformRules(composedTransformRulesClassKey);
+        CompiledRulebook changed = rules.freeze();
+        assertNotSame(snapshot, changed);
+        assertFalse(snapshot.hasClassComposedRule(Object.class));
+        assertTrue(changed.hasClassComposedRule(Object.class));
+        assertEquals(String.class, changed.getClassComposedRule(Object.class));
+    }
+
+    @Test
+    public void testFreezeIndexesComposedRulesByFieldAndClass() throws Exception {
+        Map<Object, Class<?>> composedRules = new HashMap<Object, Class<?>>(composedTransformRulesStringKey);
+        composedRules.put(Integer.class, null);
+        rules.addComposedTransformRules(composedRules);
+        CompiledRulebook snapshot = rules.freeze();
+        assertTrue(snapshot.hasFieldComposedRule("fieldOne"));
+        assertFalse(snapshot.hasClassComposedRule(String.class));
+        assertTrue(snapshot.hasClassComposedRule(Integer.class));
+        assertNull(snapshot.getClassComposedRule(Integer.class));
+        assertEquals(2, snapshot.getComposedRules().size());
+    }
+
+    @Test
+    public void testEmptyRulebookFreezesToEmptySnapshot() {
+        assertSame(CompiledRulebook.EMPTY, rules.freeze());
+        rules.addFieldNameRules(fieldNameRules);
+        rules.clearFieldNameRules();
+        assertTrue(rules.freeze().isEmpty());
+    }
+
+    @Test
+    public void testVersionIncreasesOnlyWhenRulesChange() throws Exception {
+        assertEquals(0L, rules.getVersion());
+        rules.clearFieldNameRules();
+        assertEquals(0L, rules.getVersion());
+        rules.addFieldNameRules(fieldNameRules);
+        assertEquals(1L, rules.getVersion());
+        rules.addComposedTransformRules(composedTransformRulesClassKey);
+        assertEquals(2L, rules.getVersion());
+        assertEquals(2L, rules.freeze().getVersion());
+        rules.clearComposedTransformRules();
+        rules.clearComposedTransformRules();
+        assertEquals(3L, rules.getVersion());
+    }
+
+    @Test
+    public void testRulesAreCopiedOnWrite() {
+        rules.addFieldNameRules(fieldNameRules);
+        Map<String, String> published = rules.getFieldNameRules();
+        assertSame(published, rules.getFieldNameRules());
+        fieldNameRules.put("fieldThree", "fieldFour");
+        assertEquals(1, rules.getFieldNameRules().size());
+        rules.addFieldNameRules(Map.of("fieldFive", "fieldSix"));
+        assertEquals(1, published.size());
+        assertEquals(2, rules.getFieldNameRules().size());
+    }
 
-    
 }
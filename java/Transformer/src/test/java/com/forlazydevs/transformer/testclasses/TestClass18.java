@@ -0,0 +1,19 @@
+package com.forlazydevs.transformer.testclasses;
+
+public class TestClass18 {
+    private final String fieldOne;
+    private final int fieldTwo;
+
+    public TestClass18() {
+        this.fieldOne = null;
+        this.fieldTwo = 0;
+    }
+
+    public String getFieldOne(){
+        return this.fieldOne;
+    }
+
+    public int getFieldTwo(){
+        return this.fieldTwo;
+    }
+}
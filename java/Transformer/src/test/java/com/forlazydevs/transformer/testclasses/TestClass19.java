@@ -0,0 +1,22 @@
+package com.forlazydevs.transformer.testclasses;
+
+import com.forlazydevs.transformer.annotations.Transformable;
+
+@Transformable
+public class TestClass19 {
+    private int fieldOne;
+    private float fieldTwo;
+    private char fieldThree;
+    private boolean fieldFour;
+    private long fieldFive;
+
+    public TestClass19() {}
+
+    public TestClass19(int fieldOne, float fieldTwo, char fieldThree, boolean fieldFour, long fieldFive) {
+        this.fieldOne = fieldOne;
+        this.fieldTwo = fieldTwo;
+        this.fieldThree = fieldThree;
+        this.fieldFour = fieldFour;
+        this.fieldFive = fieldFive;
+    }
+}
@@ -0,0 +1,29 @@
+package com.forlazydevs.transformer.testclasses;
+
+public class TestClass20 {
+    private long fieldOne;
+    private double fieldTwo;
+    private int fieldThree;
+    private boolean fieldFour;
+    private long fieldFive;
+
+    public long getFieldOne(){
+        return this.fieldOne;
+    }
+
+    public double getFieldTwo(){
+        return this.fieldTwo;
+    }
+
+    public int getFieldThree(){
+        return this.fieldThree;
+    }
+
+    public boolean getFieldFour(){
+        return this.fieldFour;
+    }
+
+    public long getFieldFive(){
+        return this.fieldFive;
+    }
+}
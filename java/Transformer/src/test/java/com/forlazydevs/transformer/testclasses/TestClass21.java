@@ -0,0 +1,9 @@
+package com.forlazydevs.transformer.testclasses;
+
+public class TestClass21 {
+    private int fieldFive;
+
+    public int getFieldFive(){
+        return this.fieldFive;
+    }
+}
@@ -0,0 +1,21 @@
+package com.forlazydevs.transformer.testclasses;
+
+import com.forlazydevs.transformer.annotations.TransformComposed;
+import com.forlazydevs.transformer.annotations.Transformable;
+
+@Transformable
+public class TestClass22 {
+
+    @TransformComposed
+    private TestClass23 fieldOne;
+
+    @TransformComposed
+    private TestClass23 fieldTwo;
+
+    public TestClass22() {}
+
+    public TestClass22(TestClass23 fieldOne, TestClass23 fieldTwo) {
+        this.fieldOne = fieldOne;
+        this.fieldTwo = fieldTwo;
+    }
+}
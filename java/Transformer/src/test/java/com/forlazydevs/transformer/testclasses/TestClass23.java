@@ -0,0 +1,22 @@
+package com.forlazydevs.transformer.testclasses;
+
+import com.forlazydevs.transformer.annotations.TransformComposed;
+import com.forlazydevs.transformer.annotations.Transformable;
+
+@Transformable
+public class TestClass23 {
+
+    @TransformComposed
+    private TestClass22 fieldOne;
+    private int fieldTwo;
+
+    public TestClass23() {}
+
+    public TestClass23(int fieldTwo) {
+        this.fieldTwo = fieldTwo;
+    }
+
+    public void setFieldOne(TestClass22 fieldOne) {
+        this.fieldOne = fieldOne;
+    }
+}
@@ -0,0 +1,14 @@
+package com.forlazydevs.transformer.testclasses;
+
+public class TestClass24 {
+    private TestClass25 fieldOne;
+    private TestClass25 fieldTwo;
+
+    public TestClass25 getFieldOne() {
+        return this.fieldOne;
+    }
+
+    public TestClass25 getFieldTwo() {
+        return this.fieldTwo;
+    }
+}
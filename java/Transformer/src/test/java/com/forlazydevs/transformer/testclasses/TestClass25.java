@@ -0,0 +1,14 @@
+package com.forlazydevs.transformer.testclasses;
+
+public class TestClass25 {
+    private TestClass24 fieldOne;
+    private int fieldTwo;
+
+    public TestClass24 getFieldOne() {
+        return this.fieldOne;
+    }
+
+    public int getFieldTwo() {
+        return this.fieldTwo;
+    }
+}
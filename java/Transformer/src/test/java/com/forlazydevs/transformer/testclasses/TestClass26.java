@@ -0,0 +1,26 @@
+package com.forlazydevs.transformer.testclasses;
+
+import java.util.List;
+import java.util.Map;
+
+import com.forlazydevs.transformer.annotations.TransformComposed;
+import com.forlazydevs.transformer.annotations.Transformable;
+
+@Transformable
+public class TestClass26 {
+
+    @TransformComposed
+    private List<TestClass4> fieldOne = List.of(new TestClass4(1, true), new TestClass4(2, false));
+
+    @TransformComposed
+    private TestClass4[] fieldTwo = { new TestClass4(3, true) };
+
+    @TransformComposed
+    private Map<String, TestClass4> fieldThree = Map.of("four", new TestClass4(4, true));
+
+    @TransformComposed
+    private List<String> fieldFour = List.of("five");
+
+    @TransformComposed
+    private TestClass4[] fieldFive = { new TestClass4(6, true), null };
+}
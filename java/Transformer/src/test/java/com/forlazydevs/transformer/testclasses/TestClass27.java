@@ -0,0 +1,33 @@
+package com.forlazydevs.transformer.testclasses;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class TestClass27 {
+    private List<TestClass5> fieldOne;
+    private TestClass5[] fieldTwo;
+    private Map<String, TestClass5> fieldThree;
+    private List<String> fieldFour;
+    private Set<TestClass5> fieldFive;
+
+    public List<TestClass5> getFieldOne() {
+        return this.fieldOne;
+    }
+
+    public TestClass5[] getFieldTwo() {
+        return this.fieldTwo;
+    }
+
+    public Map<String, TestClass5> getFieldThree() {
+        return this.fieldThree;
+    }
+
+    public List<String> getFieldFour() {
+        return this.fieldFour;
+    }
+
+    public Set<TestClass5> getFieldFive() {
+        return this.fieldFive;
+    }
+}
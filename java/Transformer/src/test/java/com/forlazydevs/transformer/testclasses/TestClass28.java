@@ -0,0 +1,25 @@
+package com.forlazydevs.transformer.testclasses;
+
+public class TestClass28 {
+    private final long fieldOne;
+    private final boolean fieldTwo;
+    private final String fieldThree;
+
+    public TestClass28(long fieldOne, boolean fieldTwo, String fieldThree) {
+        this.fieldOne = fieldOne;
+        this.fieldTwo = fieldTwo;
+        this.fieldThree = fieldThree;
+    }
+
+    public long getFieldOne(){
+        return this.fieldOne;
+    }
+
+    public boolean getFieldTwo(){
+        return this.fieldTwo;
+    }
+
+    public String getFieldThree(){
+        return this.fieldThree;
+    }
+}
@@ -0,0 +1,19 @@
+package com.forlazydevs.transformer.testclasses;
+
+public class TestClass29 {
+    private final TestClass24 fieldOne;
+    private final int fieldTwo;
+
+    public TestClass29(TestClass24 fieldOne, int fieldTwo) {
+        this.fieldOne = fieldOne;
+        this.fieldTwo = fieldTwo;
+    }
+
+    public TestClass24 getFieldOne(){
+        return this.fieldOne;
+    }
+
+    public int getFieldTwo(){
+        return this.fieldTwo;
+    }
+}
@@ -0,0 +1,10 @@
+package com.forlazydevs.transformer.testclasses;
+
+public class TestClass30 implements TestInterface1 {
+    private int fieldOne;
+
+    @Override
+    public int getFieldOne(){
+        return this.fieldOne;
+    }
+}
@@ -0,0 +1,17 @@
+package com.forlazydevs.transformer.testclasses;
+
+import com.forlazydevs.transformer.annotations.TransformComposed;
+import com.forlazydevs.transformer.annotations.Transformable;
+
+@Transformable
+public class TestClass31 {
+
+    @TransformComposed(lazy = true)
+    private Object fieldOne;
+
+    public TestClass31() {}
+
+    public TestClass31(Object fieldOne) {
+        this.fieldOne = fieldOne;
+    }
+}
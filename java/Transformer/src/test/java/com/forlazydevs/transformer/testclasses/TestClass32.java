@@ -0,0 +1,9 @@
+package com.forlazydevs.transformer.testclasses;
+
+public class TestClass32 {
+    private TestInterface1 fieldOne;
+
+    public TestInterface1 getFieldOne(){
+        return this.fieldOne;
+    }
+}
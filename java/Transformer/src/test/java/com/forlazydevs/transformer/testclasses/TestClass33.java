@@ -0,0 +1,9 @@
+package com.forlazydevs.transformer.testclasses;
+
+import com.forlazydevs.transformer.annotations.Transformable;
+
+@Transformable(targets = { TestClass1.class, TestClass33.class })
+public class TestClass33 {
+    private String fieldOne = "MyValue";
+    private int fieldTwo = 1;
+}
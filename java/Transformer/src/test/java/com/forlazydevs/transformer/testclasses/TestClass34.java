@@ -0,0 +1,20 @@
+package com.forlazydevs.transformer.testclasses;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import com.forlazydevs.transformer.annotations.Transformable;
+
+@Transformable
+public class TestClass34 {
+    private String fieldOne = "42";
+    private long fieldTwo = 7L;
+    private Instant fieldThree = Instant.ofEpochMilli(1000L);
+    private LocalDate fieldFour = LocalDate.ofEpochDay(3L);
+    private String fieldFive = "SECONDS";
+    private TimeUnit fieldSix = TimeUnit.MINUTES;
+    private String fieldSeven = "  padded  ";
+    private int fieldEight = 90;
+    private Integer fieldNine = null;
+}
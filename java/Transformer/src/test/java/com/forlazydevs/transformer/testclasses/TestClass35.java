@@ -0,0 +1,52 @@
+package com.forlazydevs.transformer.testclasses;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+public class TestClass35 {
+    private int fieldOne;
+    private String fieldTwo;
+    private long fieldThree;
+    private Long fieldFour;
+    private TimeUnit fieldFive;
+    private String fieldSix;
+    private String fieldSeven;
+    private Duration fieldEight;
+    private String fieldNine;
+
+    public int getFieldOne(){
+        return this.fieldOne;
+    }
+
+    public String getFieldTwo(){
+        return this.fieldTwo;
+    }
+
+    public long getFieldThree(){
+        return this.fieldThree;
+    }
+
+    public Long getFieldFour(){
+        return this.fieldFour;
+    }
+
+    public TimeUnit getFieldFive(){
+        return this.fieldFive;
+    }
+
+    public String getFieldSix(){
+        return this.fieldSix;
+    }
+
+    public String getFieldSeven(){
+        return this.fieldSeven;
+    }
+
+    public Duration getFieldEight(){
+        return this.fieldEight;
+    }
+
+    public String getFieldNine(){
+        return this.fieldNine;
+    }
+}
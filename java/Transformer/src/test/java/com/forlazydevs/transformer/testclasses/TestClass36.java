@@ -0,0 +1,21 @@
+package com.forlazydevs.transformer.testclasses;
+
+import com.forlazydevs.transformer.annotations.TransformComposed;
+import com.forlazydevs.transformer.annotations.Transformable;
+
+@Transformable
+public class TestClass36 {
+    private String fieldOne;
+    private int fieldTwo;
+    private double fieldThree;
+
+    @TransformComposed
+    private TestClass4 fieldFour;
+
+    public TestClass36(String fieldOne, int fieldTwo, double fieldThree, TestClass4 fieldFour) {
+        this.fieldOne = fieldOne;
+        this.fieldTwo = fieldTwo;
+        this.fieldThree = fieldThree;
+        this.fieldFour = fieldFour;
+    }
+}
@@ -0,0 +1,30 @@
+package com.forlazydevs.transformer.testclasses;
+
+public class TestClass37 {
+    private String fieldOne;
+    private int fieldTwo;
+    private double fieldThree;
+    private TestClass5 fieldFour;
+
+    public TestClass37() {}
+
+    public String getFieldOne(){
+        return this.fieldOne;
+    }
+
+    public void setFieldOne(String fieldOne){
+        this.fieldOne = fieldOne;
+    }
+
+    public int getFieldTwo(){
+        return this.fieldTwo;
+    }
+
+    public double getFieldThree(){
+        return this.fieldThree;
+    }
+
+    public TestClass5 getFieldFour(){
+        return this.fieldFour;
+    }
+}
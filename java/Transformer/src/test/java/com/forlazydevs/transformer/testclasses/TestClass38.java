@@ -0,0 +1,12 @@
+package com.forlazydevs.transformer.testclasses;
+
+import com.forlazydevs.transformer.annotations.TransformComposed;
+import com.forlazydevs.transformer.annotations.Transformable;
+
+@Transformable
+public class TestClass38 {
+    private String fieldOne = "MyValue";
+
+    @TransformComposed
+    private TestClass3 fieldTwo = new TestClass3();
+}
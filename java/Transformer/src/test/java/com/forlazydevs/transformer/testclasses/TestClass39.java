@@ -0,0 +1,16 @@
+package com.forlazydevs.transformer.testclasses;
+
+public class TestClass39 {
+    private String fieldOne;
+    private TestClass1 fieldTwo;
+
+    public TestClass39() {}
+
+    public String getFieldOne(){
+        return this.fieldOne;
+    }
+
+    public TestClass1 getFieldTwo(){
+        return this.fieldTwo;
+    }
+}
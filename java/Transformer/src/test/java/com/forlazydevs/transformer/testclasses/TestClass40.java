@@ -0,0 +1,18 @@
+package com.forlazydevs.transformer.testclasses;
+
+public class TestClass40 {
+    private String fieldOne;
+    private int fieldTwo;
+
+    public TestClass40(String fieldOne) {
+        this.fieldOne = fieldOne;
+    }
+
+    public String getFieldOne(){
+        return this.fieldOne;
+    }
+
+    public int getFieldTwo(){
+        return this.fieldTwo;
+    }
+}
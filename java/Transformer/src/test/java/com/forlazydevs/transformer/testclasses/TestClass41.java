@@ -0,0 +1,23 @@
+package com.forlazydevs.transformer.testclasses;
+
+import java.util.Comparator;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import com.forlazydevs.transformer.annotations.TransformComposed;
+import com.forlazydevs.transformer.annotations.Transformable;
+
+@Transformable
+public class TestClass41 {
+
+    @TransformComposed
+    private TestClass4[] fieldOne = { new TestClass4(1, true), null };
+
+    @TransformComposed
+    private SortedMap<String, TestClass4> fieldTwo = new TreeMap<String, TestClass4>(Comparator.reverseOrder());
+
+    public TestClass41() {
+        this.fieldTwo.put("a", new TestClass4(2, true));
+        this.fieldTwo.put("b", new TestClass4(3, false));
+    }
+}
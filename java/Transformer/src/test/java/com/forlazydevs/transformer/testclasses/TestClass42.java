@@ -0,0 +1,17 @@
+package com.forlazydevs.transformer.testclasses;
+
+import java.util.Queue;
+import java.util.SortedMap;
+
+public class TestClass42 {
+    private Queue<TestClass5> fieldOne;
+    private SortedMap<String, TestClass5> fieldTwo;
+
+    public Queue<TestClass5> getFieldOne() {
+        return this.fieldOne;
+    }
+
+    public SortedMap<String, TestClass5> getFieldTwo() {
+        return this.fieldTwo;
+    }
+}
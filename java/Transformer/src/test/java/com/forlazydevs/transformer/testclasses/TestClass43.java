@@ -0,0 +1,11 @@
+package com.forlazydevs.transformer.testclasses;
+
+import java.util.SortedSet;
+
+public class TestClass43 {
+    private SortedSet<TestClass5> fieldOne;
+
+    public SortedSet<TestClass5> getFieldOne() {
+        return this.fieldOne;
+    }
+}
@@ -0,0 +1,5 @@
+package com.forlazydevs.transformer.testclasses;
+
+public interface TestInterface1 {
+    int getFieldOne();
+}
@@ -0,0 +1,82 @@
+package com.forlazydevs.transformer.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.forlazydevs.transformer.jmh.fixtures.CustomerDto;
+import com.forlazydevs.transformer.jmh.fixtures.CustomerEntity;
+import com.forlazydevs.transformer.jmh.fixtures.FlatDto;
+import com.forlazydevs.transformer.jmh.fixtures.FlatEntity;
+import com.forlazydevs.transformer.jmh.fixtures.LineDto;
+import com.forlazydevs.transformer.jmh.fixtures.LineEntity;
+import com.forlazydevs.transformer.jmh.fixtures.OrderDto;
+import com.forlazydevs.transformer.jmh.fixtures.OrderEntity;
+import com.forlazydevs.transformer.jmh.fixtures.OrderSummaryDto;
+import com.forlazydevs.transformer.jmh.fixtures.RenamedEntity;
+
+/**
+ * Hand-written copies doing the same work as the transformations they are compared with.
+ */
+final class Baselines {
+
+    private Baselines() {}
+
+    static FlatDto copy(FlatEntity entity) {
+        FlatDto dto = new FlatDto();
+        dto.setId(entity.getId());
+        dto.setTimestamp(entity.getTimestamp());
+        dto.setQuantity(entity.getQuantity());
+        dto.setPrice(entity.getPrice());
+        dto.setActive(entity.isActive());
+        dto.setSymbol(entity.getSymbol());
+        dto.setVenue(entity.getVenue());
+        return dto;
+    }
+
+    static FlatDto copy(RenamedEntity entity) {
+        FlatDto dto = new FlatDto();
+        dto.setId(entity.getIdentifier());
+        dto.setTimestamp(entity.getCreatedAt());
+        dto.setQuantity(entity.getQty());
+        dto.setPrice(entity.getUnitPrice());
+        dto.setActive(entity.isEnabled());
+        dto.setSymbol(entity.getTicker());
+        dto.setVenue(entity.getExchange());
+        return dto;
+    }
+
+    static OrderDto copy(OrderEntity entity) {
+        OrderDto dto = new OrderDto();
+        dto.setId(entity.getId());
+        CustomerEntity customer = entity.getCustomer();
+        if (customer != null) {
+            CustomerDto customerDto = new CustomerDto();
+            customerDto.setId(customer.getId());
+            customerDto.setName(customer.getName());
+            customerDto.setEmail(customer.getEmail());
+            dto.setCustomer(customerDto);
+        }
+        List<LineEntity> lines = entity.getLines();
+        if (lines != null) {
+            List<LineDto> lineDtos = new ArrayList<LineDto>(lines.size());
+            for (LineEntity line : lines) {
+                LineDto lineDto = new LineDto();
+                lineDto.setSku(line.getSku());
+                lineDto.setQuantity(line.getQuantity());
+                lineDto.setPrice(line.getPrice());
+                lineDtos.add(lineDto);
+            }
+            dto.setLines(lineDtos);
+        }
+        return dto;
+    }
+
+    static OrderSummaryDto summarize(OrderEntity entity) {
+        OrderSummaryDto dto = new OrderSummaryDto();
+        dto.setId(entity.getId());
+        if (entity.getCustomer() != null) {
+            dto.setCustomer(entity.getCustomer().getId());
+        }
+        return dto;
+    }
+}
@@ -0,0 +1,69 @@
+package com.forlazydevs.transformer.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.forlazydevs.transformer.Transformer;
+import com.forlazydevs.transformer.exceptions.TransformerException;
+import com.forlazydevs.transformer.jmh.fixtures.FlatDto;
+import com.forlazydevs.transformer.jmh.fixtures.FlatEntity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Transformations of whole batches of flat entities, sequential, parallel and streamed, against a hand-written loop.
+ */
+@State(Scope.Benchmark)
+public class BatchBenchmark {
+
+    @Param({ "100", "10000" })
+    public int size;
+
+    private List<FlatEntity> batch;
+
+    @Setup
+    public void setUp() {
+        this.batch = new ArrayList<FlatEntity>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            this.batch.add(Fixtures.flat(i));
+        }
+    }
+
+    @Benchmark
+    public List<FlatDto> transformEach() throws TransformerException {
+        List<FlatDto> results = new ArrayList<FlatDto>(this.batch.size());
+        for (FlatEntity entity : this.batch) {
+            results.add(Transformer.transform(entity, FlatDto.class));
+        }
+        return results;
+    }
+
+    @Benchmark
+    public List<FlatDto> transformAll() throws TransformerException {
+        return Transformer.transformAll(this.batch, FlatDto.class, null);
+    }
+
+    @Benchmark
+    public List<FlatDto> transformAllParallel() throws TransformerException {
+        return Transformer.transformAllParallel(this.batch, FlatDto.class, null);
+    }
+
+    @Benchmark
+    public List<FlatDto> stream() {
+        return Transformer.stream(this.batch.stream(), FlatDto.class, null).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<FlatDto> baseline() {
+        List<FlatDto> results = new ArrayList<FlatDto>(this.batch.size());
+        for (FlatEntity entity : this.batch) {
+            results.add(Baselines.copy(entity));
+        }
+        return results;
+    }
+}
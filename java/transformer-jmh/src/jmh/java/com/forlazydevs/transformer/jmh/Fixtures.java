@@ -0,0 +1,96 @@
+package com.forlazydevs.transformer.jmh;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.forlazydevs.transformer.exceptions.TransformerException;
+import com.forlazydevs.transformer.jmh.fixtures.CustomerDto;
+import com.forlazydevs.transformer.jmh.fixtures.CustomerEntity;
+import com.forlazydevs.transformer.jmh.fixtures.FlatEntity;
+import com.forlazydevs.transformer.jmh.fixtures.LineEntity;
+import com.forlazydevs.transformer.jmh.fixtures.OrderEntity;
+import com.forlazydevs.transformer.jmh.fixtures.RenamedEntity;
+import com.forlazydevs.transformer.rulebook.Rulebook;
+
+/**
+ * Populated instances and rule books shared by the benchmarks.
+ */
+final class Fixtures {
+
+    static final int UNRELATED_RULES = 64;
+
+    private Fixtures() {}
+
+    static FlatEntity flat(long id) {
+        FlatEntity flat = new FlatEntity();
+        flat.setId(id);
+        flat.setTimestamp(1_650_000_000_000L + id);
+        flat.setQuantity((int) id % 500);
+        flat.setPrice(101.25 + id);
+        flat.setActive(id % 2 == 0);
+        flat.setSymbol("SYM" + id % 100);
+        flat.setVenue("XNAS");
+        return flat;
+    }
+
+    static RenamedEntity renamed() {
+        RenamedEntity renamed = new RenamedEntity();
+        renamed.setIdentifier(1L);
+        renamed.setCreatedAt(1_650_000_000_000L);
+        renamed.setQty(250);
+        renamed.setUnitPrice(101.25);
+        renamed.setEnabled(true);
+        renamed.setTicker("SYM1");
+        renamed.setExchange("XNAS");
+        return renamed;
+    }
+
+    static OrderEntity order(int lineCount) {
+        CustomerEntity customer = new CustomerEntity();
+        customer.setId(42L);
+        customer.setName("Customer");
+        customer.setEmail("customer@example.com");
+        List<LineEntity> lines = new ArrayList<LineEntity>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            LineEntity line = new LineEntity();
+            line.setSku("SKU" + i);
+            line.setQuantity(i + 1);
+            line.setPrice(9.99 * (i + 1));
+            lines.add(line);
+        }
+        OrderEntity order = new OrderEntity();
+        order.setId(7L);
+        order.setCustomer(customer);
+        order.setLines(lines);
+        return order;
+    }
+
+    /**
+     * The field name rules from RenamedEntity to FlatDto, among composed rules that never match so the rule book is large.
+     */
+    static Rulebook renameRules() throws TransformerException {
+        Rulebook rules = new Rulebook();
+        rules.addFieldNameRules(Map.of(
+            "identifier", "id",
+            "createdAt", "timestamp",
+            "qty", "quantity",
+            "unitPrice", "price",
+            "enabled", "active",
+            "ticker", "symbol",
+            "exchange", "venue"));
+        Map<Object, Class<?>> unrelated = new HashMap<Object, Class<?>>();
+        for (int i = 0; i < UNRELATED_RULES; i++) {
+            unrelated.put("unrelated" + i, String.class);
+        }
+        rules.addComposedTransformRules(unrelated);
+        return rules;
+    }
+
+    static Rulebook orderRules() throws TransformerException {
+        Rulebook rules = new Rulebook();
+        rules.addComposedTransformRules(Map.of(CustomerEntity.class, CustomerDto.class));
+        return rules;
+    }
+}
@@ -0,0 +1,93 @@
+package com.forlazydevs.transformer.jmh;
+
+import com.forlazydevs.transformer.TransformStrategy;
+import com.forlazydevs.transformer.Transformer;
+import com.forlazydevs.transformer.exceptions.TransformerException;
+import com.forlazydevs.transformer.jmh.fixtures.FlatDto;
+import com.forlazydevs.transformer.jmh.fixtures.FlatEntity;
+import com.forlazydevs.transformer.jmh.fixtures.OrderDto;
+import com.forlazydevs.transformer.jmh.fixtures.OrderEntity;
+import com.forlazydevs.transformer.jmh.fixtures.OrderSummaryDto;
+import com.forlazydevs.transformer.jmh.fixtures.RenamedEntity;
+import com.forlazydevs.transformer.rulebook.Rulebook;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Single object transformations of the common shapes, each next to its hand-written baseline.
+ */
+@State(Scope.Benchmark)
+public class TransformBenchmark {
+
+    @Param({ "HANDLES", "GENERATED" })
+    public String strategy;
+
+    @Param({ "8" })
+    public int lineCount;
+
+    private FlatEntity flat;
+    private RenamedEntity renamed;
+    private OrderEntity order;
+    private Rulebook renameRules;
+    private Rulebook orderRules;
+
+    @Setup
+    public void setUp() throws TransformerException {
+        Transformer.setStrategy(TransformStrategy.valueOf(this.strategy));
+        this.flat = Fixtures.flat(1L);
+        this.renamed = Fixtures.renamed();
+        this.order = Fixtures.order(this.lineCount);
+        this.renameRules = Fixtures.renameRules();
+        this.orderRules = Fixtures.orderRules();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Transformer.setStrategy(TransformStrategy.HANDLES);
+    }
+
+    @Benchmark
+    public FlatDto flat() throws TransformerException {
+        return Transformer.transform(this.flat, FlatDto.class);
+    }
+
+    @Benchmark
+    public FlatDto flatBaseline() {
+        return Baselines.copy(this.flat);
+    }
+
+    @Benchmark
+    public FlatDto fieldNameRules() throws TransformerException {
+        return Transformer.transform(this.renamed, FlatDto.class, this.renameRules);
+    }
+
+    @Benchmark
+    public FlatDto fieldNameRulesBaseline() {
+        return Baselines.copy(this.renamed);
+    }
+
+    @Benchmark
+    public OrderDto composed() throws TransformerException {
+        return Transformer.transform(this.order, OrderDto.class, this.orderRules);
+    }
+
+    @Benchmark
+    public OrderDto composedBaseline() {
+        return Baselines.copy(this.order);
+    }
+
+    @Benchmark
+    public OrderSummaryDto identity() throws TransformerException {
+        return Transformer.transform(this.order, OrderSummaryDto.class);
+    }
+
+    @Benchmark
+    public OrderSummaryDto identityBaseline() {
+        return Baselines.summarize(this.order);
+    }
+}
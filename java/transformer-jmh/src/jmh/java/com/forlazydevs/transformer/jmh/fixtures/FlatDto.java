@@ -0,0 +1,67 @@
+package com.forlazydevs.transformer.jmh.fixtures;
+
+public class FlatDto {
+    private long id;
+    private long timestamp;
+    private int quantity;
+    private double price;
+    private boolean active;
+    private String symbol;
+    private String venue;
+
+    public long getId() {
+        return this.id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public long getTimestamp() {
+        return this.timestamp;
+    }
+
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public int getQuantity() {
+        return this.quantity;
+    }
+
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+
+    public double getPrice() {
+        return this.price;
+    }
+
+    public void setPrice(double price) {
+        this.price = price;
+    }
+
+    public boolean isActive() {
+        return this.active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public String getSymbol() {
+        return this.symbol;
+    }
+
+    public void setSymbol(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public String getVenue() {
+        return this.venue;
+    }
+
+    public void setVenue(String venue) {
+        this.venue = venue;
+    }
+}
@@ -0,0 +1,31 @@
+package com.forlazydevs.transformer.jmh.fixtures;
+
+public class LineDto {
+    private String sku;
+    private int quantity;
+    private double price;
+
+    public String getSku() {
+        return this.sku;
+    }
+
+    public void setSku(String sku) {
+        this.sku = sku;
+    }
+
+    public int getQuantity() {
+        return this.quantity;
+    }
+
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+
+    public double getPrice() {
+        return this.price;
+    }
+
+    public void setPrice(double price) {
+        this.price = price;
+    }
+}
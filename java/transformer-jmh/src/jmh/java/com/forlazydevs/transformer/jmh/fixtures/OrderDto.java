@@ -0,0 +1,33 @@
+package com.forlazydevs.transformer.jmh.fixtures;
+
+import java.util.List;
+
+public class OrderDto {
+    private long id;
+    private CustomerDto customer;
+    private List<LineDto> lines;
+
+    public long getId() {
+        return this.id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public CustomerDto getCustomer() {
+        return this.customer;
+    }
+
+    public void setCustomer(CustomerDto customer) {
+        this.customer = customer;
+    }
+
+    public List<LineDto> getLines() {
+        return this.lines;
+    }
+
+    public void setLines(List<LineDto> lines) {
+        this.lines = lines;
+    }
+}
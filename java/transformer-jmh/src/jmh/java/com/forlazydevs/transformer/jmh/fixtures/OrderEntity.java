@@ -0,0 +1,44 @@
+package com.forlazydevs.transformer.jmh.fixtures;
+
+import java.util.List;
+
+import com.forlazydevs.transformer.annotations.TransformComposed;
+import com.forlazydevs.transformer.annotations.TransformIdentity;
+import com.forlazydevs.transformer.annotations.Transformable;
+
+/**
+ * An aggregate with a composed customer and composed lines. Without a rule for CustomerEntity the customer is copied as its identity.
+ */
+@Transformable
+public class OrderEntity {
+    private long id;
+    @TransformComposed
+    @TransformIdentity
+    private CustomerEntity customer;
+    @TransformComposed
+    private List<LineEntity> lines;
+
+    public long getId() {
+        return this.id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public CustomerEntity getCustomer() {
+        return this.customer;
+    }
+
+    public void setCustomer(CustomerEntity customer) {
+        this.customer = customer;
+    }
+
+    public List<LineEntity> getLines() {
+        return this.lines;
+    }
+
+    public void setLines(List<LineEntity> lines) {
+        this.lines = lines;
+    }
+}
@@ -0,0 +1,22 @@
+package com.forlazydevs.transformer.jmh.fixtures;
+
+public class OrderSummaryDto {
+    private long id;
+    private long customer;
+
+    public long getId() {
+        return this.id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public long getCustomer() {
+        return this.customer;
+    }
+
+    public void setCustomer(long customer) {
+        this.customer = customer;
+    }
+}
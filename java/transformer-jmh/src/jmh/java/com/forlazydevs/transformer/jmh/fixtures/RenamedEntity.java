@@ -0,0 +1,73 @@
+package com.forlazydevs.transformer.jmh.fixtures;
+
+import com.forlazydevs.transformer.annotations.Transformable;
+
+/**
+ * The fields of FlatDto under other names, copied with field name rules.
+ */
+@Transformable
+public class RenamedEntity {
+    private long identifier;
+    private long createdAt;
+    private int qty;
+    private double unitPrice;
+    private boolean enabled;
+    private String ticker;
+    private String exchange;
+
+    public long getIdentifier() {
+        return this.identifier;
+    }
+
+    public void setIdentifier(long identifier) {
+        this.identifier = identifier;
+    }
+
+    public long getCreatedAt() {
+        return this.createdAt;
+    }
+
+    public void setCreatedAt(long createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public int getQty() {
+        return this.qty;
+    }
+
+    public void setQty(int qty) {
+        this.qty = qty;
+    }
+
+    public double getUnitPrice() {
+        return this.unitPrice;
+    }
+
+    public void setUnitPrice(double unitPrice) {
+        this.unitPrice = unitPrice;
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getTicker() {
+        return this.ticker;
+    }
+
+    public void setTicker(String ticker) {
+        this.ticker = ticker;
+    }
+
+    public String getExchange() {
+        return this.exchange;
+    }
+
+    public void setExchange(String exchange) {
+        this.exchange = exchange;
+    }
+}
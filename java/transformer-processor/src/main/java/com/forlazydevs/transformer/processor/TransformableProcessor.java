@@ -0,0 +1,407 @@
+package com.forlazydevs.transformer.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import com.forlazydevs.transformer.annotations.TransformComposed;
+import com.forlazydevs.transformer.annotations.TransformIdentity;
+import com.forlazydevs.transformer.annotations.Transformable;
+import com.forlazydevs.transformer.exceptions.TransformerException;
+import com.forlazydevs.transformer.spi.TransformMapper;
+
+/**
+ * Generates a {@link TransformMapper} for every target declared with {@link Transformable#targets()} and registers it for the {@link java.util.ServiceLoader}.
+ * The generated mappers copy fields the same way the transformer does without rules, through direct field access or through getters and setters.
+ * When a field pair cannot be copied from generated code, for example because a private field has no accessor, no mapper is generated for the pair
+ * and the transformation keeps going through the reflective transformer. Composed fields are always left to the transformer, which transforms
+ * them value by value. Identities of containers are not supported, the pair is left to the transformer, which reports the missing identity field.
+ */
+@SupportedAnnotationTypes("com.forlazydevs.transformer.annotations.Transformable")
+public class TransformableProcessor extends AbstractProcessor {
+
+    private static final String SERVICE_FILE = "META-INF/services/" + TransformMapper.class.getName();
+
+    private final Set<String> generatedMappers = new TreeSet<String>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(Transformable.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                continue;
+            }
+            TypeElement source = (TypeElement) element;
+            for (TypeElement target : declaredTargets(source)) {
+                generateMapper(source, target);
+            }
+        }
+
+        if (roundEnv.processingOver() && !this.generatedMappers.isEmpty()) {
+            writeServiceFile();
+        }
+        return false;
+    }
+
+    private List<TypeElement> declaredTargets(TypeElement source) {
+        List<TypeElement> targets = new ArrayList<TypeElement>();
+        for (AnnotationMirror mirror : source.getAnnotationMirrors()) {
+            TypeElement annotation = (TypeElement) mirror.getAnnotationType().asElement();
+            if (!annotation.getQualifiedName().contentEquals(Transformable.class.getCanonicalName())) {
+                continue;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+                if (!entry.getKey().getSimpleName().contentEquals("targets")) {
+                    continue;
+                }
+                for (Object value : (List<?>) entry.getValue().getValue()) {
+                    TypeMirror type = (TypeMirror) ((AnnotationValue) value).getValue();
+                    if (type.getKind() == TypeKind.DECLARED) {
+                        targets.add((TypeElement) ((DeclaredType) type).asElement());
+                    }
+                }
+            }
+        }
+        return targets;
+    }
+
+    private void generateMapper(TypeElement source, TypeElement target) {
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(source);
+        String problem = checkClasses(source, target, pkg);
+        List<String> statements = new ArrayList<String>();
+        if (Objects.isNull(problem)) {
+            problem = copyStatements(source, target, pkg, statements);
+        }
+        if (!Objects.isNull(problem)) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                "No mapper generated for " + target.getQualifiedName() + ", it will be transformed reflectively: " + problem, source);
+            return;
+        }
+
+        String mapperName = flatName(source, pkg) + "To" + flatName(target, processingEnv.getElementUtils().getPackageOf(target)) + "TransformMapper";
+        String qualifiedMapperName = pkg.isUnnamed() ? mapperName : pkg.getQualifiedName() + "." + mapperName;
+        if (this.generatedMappers.contains(qualifiedMapperName)) {
+            return;
+        }
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedMapperName, source).openWriter()) {
+            writer.write(mapperSource(pkg, mapperName, source.getQualifiedName().toString(), target.getQualifiedName().toString(), statements));
+            this.generatedMappers.add(qualifiedMapperName);
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not write mapper " + qualifiedMapperName + ": " + ex.getMessage(), source);
+        }
+    }
+
+    private String checkClasses(TypeElement source, TypeElement target, PackageElement pkg) {
+        if (!source.getTypeParameters().isEmpty() || !target.getTypeParameters().isEmpty()) {
+            return "generic classes are not supported.";
+        }
+        if (isNonStaticInner(source) || isNonStaticInner(target)) {
+            return "inner classes are not supported.";
+        }
+        if (!isTypeAccessible(source, pkg) || !isTypeAccessible(target, pkg)) {
+            return "the classes must be accessible from package " + pkg.getQualifiedName() + ".";
+        }
+        if (target.getModifiers().contains(Modifier.ABSTRACT)) {
+            return "the target class is abstract.";
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(target.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && isMemberAccessible(constructor, pkg)) {
+                return null;
+            }
+        }
+        return "the target class has no accessible no-args constructor.";
+    }
+
+    private String copyStatements(TypeElement source, TypeElement target, PackageElement pkg, List<String> statements) {
+        Map<String, VariableElement> targetFields = new LinkedHashMap<String, VariableElement>();
+        for (VariableElement field : instanceFields(target)) {
+            targetFields.put(field.getSimpleName().toString(), field);
+        }
+
+        int identityCount = 0;
+        for (VariableElement sourceField : instanceFields(source)) {
+            String name = sourceField.getSimpleName().toString();
+            VariableElement targetField = targetFields.get(name);
+            if (Objects.isNull(targetField)) {
+                continue;
+            }
+            String value = readExpression(sourceField, "source", pkg);
+            if (Objects.isNull(value)) {
+                return "field " + name + " cannot be read.";
+            }
+            TypeMirror valueType = sourceField.asType();
+            if (!Objects.isNull(sourceField.getAnnotation(TransformComposed.class))) {
+                return "composed field " + name + " is transformed at runtime.";
+            }
+
+            TransformIdentity identity = sourceField.getAnnotation(TransformIdentity.class);
+            if (!Objects.isNull(identity)) {
+                if (isContainer(valueType)) {
+                    return "identity field " + name + " is a container, identities of containers are not supported.";
+                }
+                if (valueType.getKind() != TypeKind.DECLARED || !isTypeAccessible((TypeElement) ((DeclaredType) valueType).asElement(), pkg)) {
+                    return "identity field " + name + " is not an accessible class.";
+                }
+                TypeElement identityOwner = (TypeElement) ((DeclaredType) valueType).asElement();
+                VariableElement identityField = instanceField(identityOwner, identity.value());
+                if (Objects.isNull(identityField)) {
+                    return "class " + identityOwner.getSimpleName() + " has no field " + identity.value() + ".";
+                }
+                String local = "identity" + identityCount++;
+                String identityValue = readExpression(identityField, local, pkg);
+                if (Objects.isNull(identityValue)) {
+                    return "field " + identity.value() + " of " + identityOwner.getSimpleName() + " cannot be read.";
+                }
+                statements.add(typeName(valueType) + " " + local + " = " + value + ";");
+                value = local + " == null ? null : " + identityValue;
+                valueType = identityField.asType();
+                if (valueType.getKind().isPrimitive()) {
+                    valueType = processingEnv.getTypeUtils().boxedClass((PrimitiveType) valueType).asType();
+                }
+            }
+
+            String converted = convert(value, valueType, targetField.asType());
+            if (Objects.isNull(converted)) {
+                return "field " + name + " of type " + valueType + " cannot be assigned to type " + targetField.asType() + ".";
+            }
+            String write = writeStatement(targetField, "target", converted, pkg);
+            if (Objects.isNull(write)) {
+                return "field " + name + " of " + target.getSimpleName() + " cannot be written.";
+            }
+            statements.add(write);
+        }
+        return null;
+    }
+
+    private String convert(String value, TypeMirror from, TypeMirror to) {
+        Types types = processingEnv.getTypeUtils();
+        if (types.isAssignable(from, to)) {
+            return value;
+        }
+        if (from.getKind().isPrimitive()) {
+            if (!to.getKind().isPrimitive() && types.isAssignable(types.boxedClass((PrimitiveType) from).asType(), to)) {
+                return value;
+            }
+            return null;
+        }
+        if (to.getKind().isPrimitive()) {
+            try {
+                if (types.isAssignable(types.unboxedType(from), to)) {
+                    return value;
+                }
+            } catch (IllegalArgumentException ex) {
+                // Not a wrapper type, it can still hold one.
+            }
+            TypeMirror boxed = types.boxedClass((PrimitiveType) to).asType();
+            if (types.isAssignable(boxed, from)) {
+                return "(" + typeName(boxed) + ") (" + value + ")";
+            }
+            return null;
+        }
+        if (types.isAssignable(types.erasure(to), types.erasure(from))) {
+            return "(" + typeName(to) + ") (" + value + ")";
+        }
+        return null;
+    }
+
+    private boolean isContainer(TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return true;
+        }
+        Types types = processingEnv.getTypeUtils();
+        for (String container : new String[] { "java.util.Collection", "java.util.Map" }) {
+            TypeElement containerType = processingEnv.getElementUtils().getTypeElement(container);
+            if (types.isAssignable(types.erasure(type), types.erasure(containerType.asType()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String readExpression(VariableElement field, String receiver, PackageElement pkg) {
+        String name = field.getSimpleName().toString();
+        if (isMemberAccessible(field, pkg)) {
+            return receiver + "." + name;
+        }
+        TypeElement owner = (TypeElement) field.getEnclosingElement();
+        boolean isBoolean = field.asType().getKind() == TypeKind.BOOLEAN;
+        for (ExecutableElement method : ElementFilter.methodsIn(owner.getEnclosedElements())) {
+            String methodName = method.getSimpleName().toString();
+            boolean isGetter = methodName.equals("get" + capitalize(name)) || (isBoolean && methodName.equals("is" + capitalize(name)));
+            if (isGetter
+                && method.getParameters().isEmpty()
+                && !method.getModifiers().contains(Modifier.STATIC)
+                && isMemberAccessible(method, pkg)
+                && processingEnv.getTypeUtils().isSameType(method.getReturnType(), field.asType())) {
+                return receiver + "." + methodName + "()";
+            }
+        }
+        return null;
+    }
+
+    private String writeStatement(VariableElement field, String receiver, String value, PackageElement pkg) {
+        String name = field.getSimpleName().toString();
+        if (!field.getModifiers().contains(Modifier.FINAL) && isMemberAccessible(field, pkg)) {
+            return receiver + "." + name + " = " + value + ";";
+        }
+        TypeElement owner = (TypeElement) field.getEnclosingElement();
+        for (ExecutableElement method : ElementFilter.methodsIn(owner.getEnclosedElements())) {
+            if (method.getSimpleName().contentEquals("set" + capitalize(name))
+                && method.getParameters().size() == 1
+                && !method.getModifiers().contains(Modifier.STATIC)
+                && isMemberAccessible(method, pkg)
+                && processingEnv.getTypeUtils().isSameType(method.getParameters().get(0).asType(), field.asType())) {
+                return receiver + "." + method.getSimpleName() + "(" + value + ");";
+            }
+        }
+        return null;
+    }
+
+    private String mapperSource(PackageElement pkg, String mapperName, String sourceName, String targetName, List<String> statements) {
+        StringBuilder code = new StringBuilder();
+        if (!pkg.isUnnamed()) {
+            code.append("package ").append(pkg.getQualifiedName()).append(";\n\n");
+        }
+        code.append("@javax.annotation.processing.Generated(\"").append(TransformableProcessor.class.getName()).append("\")\n");
+        code.append("public final class ").append(mapperName)
+            .append(" implements ").append(TransformMapper.class.getName()).append("<").append(sourceName).append(", ").append(targetName).append("> {\n\n");
+        code.append("    @Override\n");
+        code.append("    public Class<").append(sourceName).append("> getSourceClass() {\n");
+        code.append("        return ").append(sourceName).append(".class;\n");
+        code.append("    }\n\n");
+        code.append("    @Override\n");
+        code.append("    public Class<").append(targetName).append("> getTargetClass() {\n");
+        code.append("        return ").append(targetName).append(".class;\n");
+        code.append("    }\n\n");
+        code.append("    @Override\n");
+        code.append("    @SuppressWarnings(\"unchecked\")\n");
+        code.append("    public ").append(targetName).append(" transform(").append(sourceName).append(" source) throws ")
+            .append(TransformerException.class.getName()).append(" {\n");
+        code.append("        if (source == null) {\n");
+        code.append("            return null;\n");
+        code.append("        }\n");
+        code.append("        try {\n");
+        code.append("            ").append(targetName).append(" target = new ").append(targetName).append("();\n");
+        for (String statement : statements) {
+            code.append("            ").append(statement).append("\n");
+        }
+        code.append("            return target;\n");
+        code.append("        } catch (RuntimeException ex) {\n");
+        code.append("            throw new ").append(TransformerException.class.getName())
+            .append("(\"Could not transform \" + source.getClass().getSimpleName(), ex);\n");
+        code.append("        }\n");
+        code.append("    }\n");
+        code.append("}\n");
+        return code.toString();
+    }
+
+    private void writeServiceFile() {
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = file.openWriter()) {
+                for (String mapper : this.generatedMappers) {
+                    writer.write(mapper);
+                    writer.write("\n");
+                }
+            }
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not write " + SERVICE_FILE + ": " + ex.getMessage());
+        }
+    }
+
+    private List<VariableElement> instanceFields(TypeElement type) {
+        List<VariableElement> fields = new ArrayList<VariableElement>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (!field.getModifiers().contains(Modifier.STATIC)) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    private VariableElement instanceField(TypeElement type, String name) {
+        for (VariableElement field : instanceFields(type)) {
+            if (field.getSimpleName().contentEquals(name)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private boolean isMemberAccessible(Element member, PackageElement pkg) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        return processingEnv.getElementUtils().getPackageOf(member).equals(pkg);
+    }
+
+    private boolean isTypeAccessible(TypeElement type, PackageElement pkg) {
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            if (!isMemberAccessible(element, pkg)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isNonStaticInner(TypeElement type) {
+        return type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC);
+    }
+
+    private String typeName(TypeMirror type) {
+        if (type.getKind() == TypeKind.TYPEVAR) {
+            return processingEnv.getTypeUtils().erasure(type).toString();
+        }
+        return type.toString();
+    }
+
+    private static String flatName(TypeElement type, PackageElement pkg) {
+        String name = type.getQualifiedName().toString();
+        if (!pkg.isUnnamed()) {
+            name = name.substring(pkg.getQualifiedName().length() + 1);
+        }
+        return name.replace('.', '_');
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}
@@ -0,0 +1,184 @@
+package com.forlazydevs.transformer.processor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import com.forlazydevs.transformer.Transformer;
+import com.forlazydevs.transformer.spi.MapperRegistry;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class TransformableProcessorTest {
+
+    private static final String ENTITY = String.join("\n",
+        "package sample;",
+        "import com.forlazydevs.transformer.annotations.TransformIdentity;",
+        "import com.forlazydevs.transformer.annotations.Transformable;",
+        "@Transformable(targets = Dto.class)",
+        "public class Entity {",
+        "    private String fieldOne = \"MyValue\";",
+        "    int fieldTwo = 1;",
+        "    private Object fieldThree = \"Three\";",
+        "    @TransformIdentity",
+        "    private Child fieldFour = new Child();",
+        "    public String getFieldOne() { return fieldOne; }",
+        "    public Object getFieldThree() { return fieldThree; }",
+        "    public Child getFieldFour() { return fieldFour; }",
+        "}");
+
+    private static final String CHILD = String.join("\n",
+        "package sample;",
+        "public class Child {",
+        "    long id = 123L;",
+        "}");
+
+    private static final String DTO = String.join("\n",
+        "package sample;",
+        "public class Dto {",
+        "    private String fieldOne;",
+        "    private long fieldTwo;",
+        "    private String fieldThree;",
+        "    private long fieldFour;",
+        "    public void setFieldOne(String fieldOne) { this.fieldOne = fieldOne; }",
+        "    public void setFieldThree(String fieldThree) { this.fieldThree = fieldThree; }",
+        "    public void setFieldFour(long fieldFour) { this.fieldFour = fieldFour; }",
+        "    public String getFieldOne() { return fieldOne; }",
+        "    public long getFieldTwo() { return fieldTwo; }",
+        "    public String getFieldThree() { return fieldThree; }",
+        "    public long getFieldFour() { return fieldFour; }",
+        "    public void setFieldTwo(long fieldTwo) { this.fieldTwo = fieldTwo; }",
+        "}");
+
+    private static final String HIDDEN_ENTITY = String.join("\n",
+        "package sample;",
+        "import com.forlazydevs.transformer.annotations.Transformable;",
+        "@Transformable(targets = Dto.class)",
+        "public class HiddenEntity {",
+        "    private String fieldOne = \"Hidden\";",
+        "}");
+
+    private static final String COMPOSED_ENTITY = String.join("\n",
+        "package sample;",
+        "import java.util.List;",
+        "import com.forlazydevs.transformer.annotations.TransformComposed;",
+        "import com.forlazydevs.transformer.annotations.Transformable;",
+        "@Transformable(targets = ListDto.class)",
+        "public class ComposedEntity {",
+        "    @TransformComposed",
+        "    public List<Child> fieldOne = List.of(new Child());",
+        "}");
+
+    private static final String IDENTITY_ENTITY = String.join("\n",
+        "package sample;",
+        "import java.util.List;",
+        "import com.forlazydevs.transformer.annotations.TransformIdentity;",
+        "import com.forlazydevs.transformer.annotations.Transformable;",
+        "@Transformable(targets = ListDto.class)",
+        "public class IdentityEntity {",
+        "    @TransformIdentity",
+        "    public List<Child> fieldOne = List.of(new Child());",
+        "}");
+
+    private static final String LIST_DTO = String.join("\n",
+        "package sample;",
+        "import java.util.List;",
+        "public class ListDto {",
+        "    public List<Object> fieldOne;",
+        "}");
+
+    private Path sources;
+    private Path classes;
+
+    @Before
+    public void setUp() throws IOException {
+        this.sources = Files.createTempDirectory("transformer-processor-sources");
+        this.classes = Files.createTempDirectory("transformer-processor-classes");
+    }
+
+    @Test
+    public void testGeneratesRegisteredMapper() throws Exception {
+        compile(Map.of("Entity", ENTITY, "Child", CHILD, "Dto", DTO));
+        assertTrue(Files.exists(this.classes.resolve("sample/EntityToDtoTransformMapper.class")));
+        List<String> services = Files.readAllLines(this.classes.resolve("META-INF/services/com.forlazydevs.transformer.spi.TransformMapper"));
+        assertEquals(List.of("sample.EntityToDtoTransformMapper"), services);
+
+        // Mappers are looked up with the loader of the source class, not the context class loader.
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { this.classes.toUri().toURL() }, getClass().getClassLoader())) {
+            try {
+                MapperRegistry.reload();
+                Class<?> dtoClass = loader.loadClass("sample.Dto");
+                Object entity = loader.loadClass("sample.Entity").getDeclaredConstructor().newInstance();
+                assertTrue(MapperRegistry.find(entity.getClass(), dtoClass) != null);
+                Object dto = Transformer.transform(entity, dtoClass);
+                assertEquals("MyValue", dtoClass.getMethod("getFieldOne").invoke(dto));
+                assertEquals(1L, dtoClass.getMethod("getFieldTwo").invoke(dto));
+                assertEquals("Three", dtoClass.getMethod("getFieldThree").invoke(dto));
+                assertEquals(123L, dtoClass.getMethod("getFieldFour").invoke(dto));
+            } finally {
+                MapperRegistry.reload();
+            }
+        }
+    }
+
+    @Test
+    public void testSkipsBrokenMapperRegistrations() throws Exception {
+        compile(Map.of("Entity", ENTITY, "Child", CHILD, "Dto", DTO));
+        Path services = this.classes.resolve("META-INF/services/com.forlazydevs.transformer.spi.TransformMapper");
+        Files.write(services, List.of("sample.MissingTransformMapper", "sample.EntityToDtoTransformMapper"));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { this.classes.toUri().toURL() }, getClass().getClassLoader())) {
+            try {
+                MapperRegistry.reload();
+                Class<?> entityClass = loader.loadClass("sample.Entity");
+                assertTrue(MapperRegistry.find(entityClass, loader.loadClass("sample.Dto")) != null);
+            } finally {
+                MapperRegistry.reload();
+            }
+        }
+    }
+
+    @Test
+    public void testSkipsMapperWhenFieldCannotBeRead() throws Exception {
+        compile(Map.of("HiddenEntity", HIDDEN_ENTITY, "Dto", DTO));
+        assertFalse(Files.exists(this.classes.resolve("sample/HiddenEntityToDtoTransformMapper.class")));
+    }
+
+    @Test
+    public void testSkipsMapperForComposedAndIdentityContainers() throws Exception {
+        compile(Map.of("ComposedEntity", COMPOSED_ENTITY, "IdentityEntity", IDENTITY_ENTITY, "Child", CHILD, "ListDto", LIST_DTO));
+        assertFalse(Files.exists(this.classes.resolve("sample/ComposedEntityToListDtoTransformMapper.class")));
+        assertFalse(Files.exists(this.classes.resolve("sample/IdentityEntityToListDtoTransformMapper.class")));
+    }
+
+    private void compile(Map<String, String> classSources) throws IOException {
+        Path pkg = Files.createDirectories(this.sources.resolve("sample"));
+        String[] arguments = new String[classSources.size() + 6];
+        int i = 0;
+        arguments[i++] = "-classpath";
+        arguments[i++] = System.getProperty("java.class.path");
+        arguments[i++] = "-processor";
+        arguments[i++] = TransformableProcessor.class.getName();
+        arguments[i++] = "-d";
+        arguments[i++] = this.classes.toString();
+        for (Map.Entry<String, String> entry : classSources.entrySet()) {
+            Path file = pkg.resolve(entry.getKey() + ".java");
+            Files.writeString(file, entry.getValue());
+            arguments[i++] = file.toString();
+        }
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertEquals(0, compiler.run(null, null, null, arguments));
+    }
+}